@@ -18,6 +18,15 @@ repositories {
 	mavenCentral()
 }
 
+// JMH 벤치마크 (src/jmh/java). BaseTest 의 Testcontainers 설정을 재사용하기 위해 test 출력물을 포함한다.
+val jmh by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+	runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations.testImplementation.get())
+configurations["jmhRuntimeOnly"].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-elasticsearch")
 	implementation("org.springframework.boot:spring-boot-starter-webmvc")
@@ -33,8 +42,55 @@ dependencies {
 	testImplementation("org.testcontainers:testcontainers-elasticsearch")
 	// Validation
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	// Metrics
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aspectj")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+	// Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	// JMH
+	"jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+	"jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("load")
+	}
+}
+
+// platform thread / virtual thread 모드 부하 비교 (PostSearchLoadTests)
+tasks.register<Test>("loadTest") {
+	description = "Runs load tests tagged with 'load'."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+// ./gradlew jmh -Pjmh.includes=PostServiceBenchmark
+tasks.register<JavaExec>("jmh") {
+	description = "Runs JMH benchmarks against a Testcontainers Elasticsearch."
+	group = "verification"
+	dependsOn(tasks.named("jmhClasses"))
+	classpath = jmh.runtimeClasspath
+	mainClass = "org.openjdk.jmh.Main"
+	javaLauncher = javaToolchains.launcherFor(java.toolchain)
+	args(
+		providers.gradleProperty("jmh.includes").getOrElse(".*Benchmark.*"),
+		"-rf", "json",
+		"-rff", layout.buildDirectory.file("reports/jmh/results.json").get().asFile.absolutePath
+	)
+	doFirst {
+		layout.buildDirectory.dir("reports/jmh").get().asFile.mkdirs()
+	}
+}
@@ -0,0 +1,41 @@
+package com.back;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// BaseTest 의 elasticsearch:nori 컨테이너를 띄우고 웹 서버 없이 애플리케이션 컨텍스트를 올린다.
+// fork 마다 한 번 만들어지고 같은 fork 의 모든 benchmark 가 공유한다.
+@State(Scope.Benchmark)
+public class BenchmarkApplication {
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        BaseTest.elasticsearchContainer.start();
+        context = new SpringApplicationBuilder(BackApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.elasticsearch.uris=" + BaseTest.elasticsearchContainer.getHttpHostAddress(),
+                        "logging.level.com.back=info",
+                        // 검색 결과 캐시가 켜져 있으면 ES 조회 대신 캐시 hit 를 측정하게 된다.
+                        "custom.post.search-cache.enabled=false"
+                )
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+        BaseTest.elasticsearchContainer.stop();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,76 @@
+package com.back.domain.post.comment.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import com.back.BenchmarkApplication;
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.comment.dto.CommentDraft;
+
+// comments 인덱스(shard 3개)에서 Post 단위 댓글 조회를 routing 유무로 비교한다.
+// routed=false 는 routing 도입 전처럼 모든 shard 에 요청이 퍼지고, true 는 postId 의 shard 하나만 검색한다.
+// 동시 요청이 많을수록 차이가 커지므로 스레드 8개로 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class CommentRoutingBenchmark {
+    private static final int POST_COUNT = 200;
+    private static final int COMMENTS_PER_POST = 50;
+
+    @Param({"true", "false"})
+    public boolean routed;
+
+    private ElasticsearchTemplate elasticsearchTemplate;
+    private final List<String> postIds = new ArrayList<>(POST_COUNT);
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        elasticsearchTemplate = application.getBean(ElasticsearchTemplate.class);
+        CommentService commentService = application.getBean(CommentService.class);
+        for (int p = 0; p < POST_COUNT; p++) {
+            String postId = "routing-benchmark-post-" + p;
+            commentService.createAll(postId, IntStream.range(0, COMMENTS_PER_POST)
+                    .mapToObj(i -> new CommentDraft("Routing benchmark comment " + i, "Commenter" + (i % 20)))
+                    .toList());
+            postIds.add(postId);
+        }
+        commentService.refresh();
+    }
+
+    @Benchmark
+    public SearchHits<Comment> findByPostId() {
+        String postId = postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+        NativeQueryBuilder query = NativeQuery.builder()
+                .withQuery(q -> q.term(t -> t.field("postId").value(postId)))
+                .withMaxResults(10);
+        if (routed) {
+            query.withRoute(postId);
+        }
+        return elasticsearchTemplate.search(query.build(), Comment.class);
+    }
+}
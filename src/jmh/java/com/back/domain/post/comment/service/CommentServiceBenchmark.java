@@ -0,0 +1,59 @@
+package com.back.domain.post.comment.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.back.BenchmarkApplication;
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.comment.dto.CommentDraft;
+import com.back.domain.post.post.service.PostService;
+
+// 댓글 목록 조회만 측정한다. 쓰기는 page 와 무관하므로 CommentWriteBenchmark 로 분리했다.
+// trial 마다 새 Post 에 같은 COMMENT_COUNT 건을 넣는다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CommentServiceBenchmark {
+    private static final int COMMENT_COUNT = 2_000;
+
+    @Param({"0", "10", "100"})
+    public int page;
+
+    private CommentService commentService;
+    private String postId;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        commentService = application.getBean(CommentService.class);
+        postId = application.getBean(PostService.class)
+                .create("Benchmark post", "Benchmark post content", "BenchmarkAuthor")
+                .getId();
+        commentService.createAll(postId, IntStream.range(0, COMMENT_COUNT)
+                .mapToObj(i -> new CommentDraft("Benchmark comment " + i, "Commenter" + (i % 20)))
+                .toList());
+        commentService.refresh();
+    }
+
+    @Benchmark
+    public Page<Comment> findByPostId() {
+        return commentService.findByPostId(postId, PageRequest.of(page, 10));
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.domain.post.comment.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.back.BenchmarkApplication;
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.post.service.PostService;
+
+// 댓글 생성/수정. 목록 조회 benchmark 의 댓글 수를 바꾸지 않도록 별도 클래스로 둔다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CommentWriteBenchmark {
+    private CommentService commentService;
+    private String postId;
+    private String commentId;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        commentService = application.getBean(CommentService.class);
+        postId = application.getBean(PostService.class)
+                .create("Benchmark write post", "Benchmark post content", "BenchmarkAuthor")
+                .getId();
+        commentId = commentService.create(postId, "Benchmark update target", "Commenter").getId();
+    }
+
+    @Benchmark
+    public Comment create() {
+        return commentService.create(postId, "Benchmark create comment", "Commenter");
+    }
+
+    @Benchmark
+    public Comment update() {
+        return commentService.update(postId, commentId, "Benchmark updated comment");
+    }
+}
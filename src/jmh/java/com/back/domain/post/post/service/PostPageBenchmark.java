@@ -0,0 +1,77 @@
+package com.back.domain.post.post.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+
+import com.back.BenchmarkApplication;
+import com.back.domain.post.comment.dto.CommentDraft;
+import com.back.domain.post.comment.service.CommentService;
+import com.back.domain.post.post.dto.PostWithComments;
+
+// 게시글 화면 한 번 그리는 비용: 존재 확인 + findById + findByPostId(기존 컨트롤러 흐름) 와 findByIdWithComments 비교
+// cache=cold 는 매 호출 전에 PostCache 를 비워서 _msearch 경로를, warm 은 댓글 검색만 보내는 경로를 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PostPageBenchmark {
+    private static final int COMMENT_COUNT = 200;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"cold", "warm"})
+    public String cache;
+
+    private PostService postService;
+    private CommentService commentService;
+    private PostCache postCache;
+    private String postId;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        postService = application.getBean(PostService.class);
+        commentService = application.getBean(CommentService.class);
+        postCache = application.getBean(PostCache.class);
+        postId = postService.create("Benchmark page post", "Benchmark page content", "BenchmarkAuthor").getId();
+        commentService.createAll(postId, IntStream.range(0, COMMENT_COUNT)
+                .mapToObj(i -> new CommentDraft("Benchmark page comment " + i, "Commenter" + (i % 20)))
+                .toList());
+        commentService.refresh();
+    }
+
+    @Benchmark
+    public void separateRequests(Blackhole blackhole) {
+        evictIfCold();
+        postService.verifyExists(postId);
+        blackhole.consume(postService.findById(postId));
+        blackhole.consume(commentService.findByPostId(postId, PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public PostWithComments singleRequest() {
+        evictIfCold();
+        return postService.findByIdWithComments(postId, PAGE_SIZE);
+    }
+
+    private void evictIfCold() {
+        if ("cold".equals(cache)) {
+            postCache.invalidate(postId);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.back.domain.post.post.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+
+import com.back.BenchmarkApplication;
+
+import tools.jackson.databind.ObjectMapper;
+
+// 목록 조회를 Post 전체(full)와 PostSummary(summary, snippet 100자)로 받아 JSON 직렬화까지 측정한다.
+// 응답 크기는 payloadBytes 보조 카운터(반복 구간 합계)로 함께 출력된다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PostProjectionBenchmark {
+    private static final int POST_COUNT = 2_000;
+    // 목록 화면에서 문제가 되는 수 KB 짜리 본문
+    private static final String LONG_CONTENT = "긴 본문 문단입니다. hotkeyword 가 가끔 섞여 있습니다. ".repeat(100);
+
+    @Param({"full", "summary"})
+    public String view;
+
+    private PostService postService;
+    private ObjectMapper objectMapper;
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        postService = application.getBean(PostService.class);
+        objectMapper = application.getBean(ObjectMapper.class);
+        if (postService.count() < POST_COUNT) {
+            for (int i = 0; i < POST_COUNT; i++) {
+                postService.create("Projection title " + i, LONG_CONTENT + i, "BenchmarkAuthor" + (i % 50), RefreshPolicy.NONE);
+            }
+            postService.refresh();
+        }
+    }
+
+    @Benchmark
+    public byte[] findAll(Payload payload) {
+        Page<?> page = "summary".equals(view)
+                ? postService.findAllSummaries(pageable, 100)
+                : postService.findAll(pageable);
+        byte[] body = objectMapper.writeValueAsBytes(page.getContent());
+        payload.payloadBytes += body.length;
+        return body;
+    }
+
+    @Benchmark
+    public byte[] search(Payload payload) {
+        Page<?> page = "summary".equals(view)
+                ? postService.searchSummaries("hotkeyword", "content", pageable, 100)
+                : postService.search("hotkeyword", "content", pageable);
+        byte[] body = objectMapper.writeValueAsBytes(page.getContent());
+        payload.payloadBytes += body.length;
+        return body;
+    }
+}
@@ -0,0 +1,59 @@
+package com.back.domain.post.post.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+
+import com.back.BenchmarkApplication;
+import com.back.domain.post.post.document.Post;
+
+// 검색만 측정한다. 쓰기는 searchType 과 무관하고 검색 대상 인덱스를 키우므로 PostWriteBenchmark 로 분리했다.
+// trial 마다 같은 POST_COUNT 건을 넣어서 searchType 끼리 같은 데이터로 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PostServiceBenchmark {
+    private static final int POST_COUNT = 5_000;
+
+    @Param({"title", "content", "titleAndContent"})
+    public String searchType;
+
+    private PostService postService;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        postService = application.getBean(PostService.class);
+        for (int i = 0; i < POST_COUNT; i++) {
+            postService.create(
+                    "Benchmark title " + i + (i % 10 == 0 ? " hotkeyword" : ""),
+                    "Benchmark content body " + i + " ".repeat(20) + (i % 7 == 0 ? " hotkeyword" : ""),
+                    "BenchmarkAuthor" + (i % 50),
+                    RefreshPolicy.NONE
+            );
+        }
+        postService.refresh();
+    }
+
+    @Benchmark
+    public Page<Post> search() {
+        return postService.search("hotkeyword", searchType, PageRequest.of(0, 10));
+    }
+}
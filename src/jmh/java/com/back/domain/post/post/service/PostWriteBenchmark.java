@@ -0,0 +1,46 @@
+package com.back.domain.post.post.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.back.BenchmarkApplication;
+import com.back.domain.post.post.document.Post;
+
+// Post 생성/수정 (refresh=immediate). 검색 benchmark 와 인덱스를 나눠 쓰지 않도록 별도 클래스로 둔다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PostWriteBenchmark {
+    private PostService postService;
+    private String postId;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        postService = application.getBean(PostService.class);
+        postId = postService.create("Benchmark update target", "Benchmark content", "BenchmarkAuthor").getId();
+    }
+
+    @Benchmark
+    public Post create() {
+        return postService.create("Benchmark create title", "Benchmark create content", "BenchmarkAuthor");
+    }
+
+    @Benchmark
+    public Post update() {
+        return postService.update(postId, "Benchmark updated title", "Benchmark updated content");
+    }
+}
@@ -0,0 +1,45 @@
+package com.back.domain.admin.index.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.back.domain.admin.index.dto.IndexRefreshInterval;
+import com.back.domain.admin.index.service.IndexAdminService;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/admin/indices/{index}")
+@RequiredArgsConstructor
+public class IndexAdminController {
+
+    private final IndexAdminService indexAdminService;
+
+    public record UpdateRefreshIntervalRequest(
+            @NotBlank(message = "Refresh interval must not be blank")
+            @Pattern(regexp = "-1|\\d+(ms|s|m|h)", message = "Refresh interval must be -1 or a time value like 1s")
+            String refreshInterval
+    ) {}
+
+    @GetMapping("/refresh-interval")
+    public List<IndexRefreshInterval> getRefreshInterval(@PathVariable String index) {
+        return indexAdminService.getRefreshInterval(index);
+    }
+
+    @PutMapping("/refresh-interval")
+    public List<IndexRefreshInterval> updateRefreshInterval(
+            @PathVariable String index,
+            @RequestBody @Valid UpdateRefreshIntervalRequest request
+    ) {
+        return indexAdminService.updateRefreshInterval(index, request.refreshInterval);
+    }
+}
@@ -0,0 +1,8 @@
+package com.back.domain.admin.index.dto;
+
+// index 는 alias 가 가리키는 실제 인덱스 이름, refreshInterval 은 "1s", "-1" 같은 ES 시간 값
+public record IndexRefreshInterval(
+        String index,
+        String refreshInterval
+) {
+}
@@ -0,0 +1,73 @@
+package com.back.domain.admin.index.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.stereotype.Service;
+
+import com.back.domain.admin.index.dto.IndexRefreshInterval;
+import com.back.global.exception.NotFoundException;
+
+import co.elastic.clients.elasticsearch._types.Time;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import lombok.RequiredArgsConstructor;
+
+// 대량 적재 전에 refresh_interval 을 "-1" 로 꺼두고, 끝나면 "1s" 등으로 되돌린다.
+@Service
+@RequiredArgsConstructor
+public class IndexAdminService {
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final SimpleElasticsearchMappingContext mappingContext;
+
+    public List<IndexRefreshInterval> getRefreshInterval(String indexName) {
+        verifyManaged(indexName);
+        Map<String, IndexState> states = elasticsearchTemplate.execute(client -> client.indices()
+                .getSettings(g -> g.index(indexName).includeDefaults(true))
+                .settings());
+        return states.entrySet().stream()
+                .map(entry -> new IndexRefreshInterval(entry.getKey(), refreshInterval(entry.getValue())))
+                .toList();
+    }
+
+    public List<IndexRefreshInterval> updateRefreshInterval(String indexName, String refreshInterval) {
+        verifyManaged(indexName);
+        elasticsearchTemplate.execute(client -> client.indices().putSettings(p -> p
+                .index(indexName)
+                .settings(s -> s.refreshInterval(t -> t.time(refreshInterval)))));
+        return getRefreshInterval(indexName);
+    }
+
+    // @Document 로 매핑된 인덱스만 변경할 수 있다.
+    private void verifyManaged(String indexName) {
+        boolean managed = mappingContext.getPersistentEntities().stream()
+                .anyMatch(entity -> entity.getIndexCoordinates().getIndexName().equals(indexName));
+        if (!managed) {
+            throw new NotFoundException("Index not found: " + indexName);
+        }
+    }
+
+    // 직접 설정한 값이 없으면 기본값(defaults)을 돌려준다.
+    private static String refreshInterval(IndexState state) {
+        Time time = refreshInterval(state.settings());
+        if (time == null) {
+            time = refreshInterval(state.defaults());
+        }
+        if (time == null) {
+            return null;
+        }
+        return time.isTime() ? time.time() : String.valueOf(time.offset());
+    }
+
+    private static Time refreshInterval(IndexSettings settings) {
+        if (settings == null) {
+            return null;
+        }
+        if (settings.index() != null && settings.index().refreshInterval() != null) {
+            return settings.index().refreshInterval();
+        }
+        return settings.refreshInterval();
+    }
+}
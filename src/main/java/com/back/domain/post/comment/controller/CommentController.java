@@ -3,6 +3,7 @@ package com.back.domain.post.comment.controller;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,13 +14,27 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.comment.dto.AcceptedComment;
+import com.back.domain.post.comment.dto.BulkCreateResult;
+import com.back.domain.post.comment.dto.CommentDraft;
 import com.back.domain.post.comment.service.CommentService;
 import com.back.domain.post.post.service.PostService;
+import com.back.global.elasticsearch.PartialDocumentUpdater;
+import com.back.global.elasticsearch.Snippets;
+import com.back.global.export.NdjsonExporter;
+import com.back.global.pagination.CursorPage;
+import com.back.global.web.RefreshParam;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +45,7 @@ public class CommentController {
 
     private final CommentService commentService;
     private final PostService postService;
+    private final NdjsonExporter ndjsonExporter;
 
     public record CreateCommentRequest(
             @NotBlank(message = "Content must not be blank")
@@ -41,42 +57,102 @@ public class CommentController {
     ) {}
 
     @PostMapping
-    public ResponseEntity<Comment> create(
+    public ResponseEntity<?> create(
             @PathVariable String postId,
-            @RequestBody @Valid CreateCommentRequest request
+            @RequestBody @Valid CreateCommentRequest request,
+            @RefreshParam RefreshPolicy refreshPolicy
     ) {
+        postService.verifyExists(postId);
+        if (commentService.isWriteBehindEnabled()) {
+            AcceptedComment accepted = commentService.enqueue(
+                    postId,
+                    request.content,
+                    request.author
+            );
+            return ResponseEntity.accepted().body(accepted);
+        }
         Comment comment = commentService.create(
-                postService.findById(postId),
+                postId,
                 request.content,
-                request.author
+                request.author,
+                refreshPolicy
         );
         return ResponseEntity.status(201).body(comment);
     }
 
+    public record BulkCreateCommentRequest(
+            @NotEmpty(message = "Comments must not be empty")
+            List<@Valid CreateCommentRequest> comments
+    ) {}
+
+    @PostMapping("/_bulk")
+    public BulkCreateResult createAll(
+            @PathVariable String postId,
+            @RequestBody @Valid BulkCreateCommentRequest request,
+            @RefreshParam(defaultValue = RefreshPolicy.NONE) RefreshPolicy refreshPolicy
+    ) {
+        List<CommentDraft> drafts = request.comments.stream()
+                .map(comment -> new CommentDraft(comment.content, comment.author))
+                .toList();
+        postService.verifyExists(postId);
+        return commentService.createAll(postId, drafts, refreshPolicy);
+    }
+
+    // view=summary 이면 content 없이 CommentSummary 를 반환한다. snippet 은 content 미리보기 글자 수 (0 이면 생략)
     @GetMapping
-    public Page<Comment> findByPostId(
+    public Page<?> findByPostId(
             @PathVariable String postId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(Snippets.MAX_LENGTH) int snippet
     ) {
         // Post 존재 여부 확인
-        postService.findById(postId);
+        postService.verifyExists(postId);
         Pageable pageable = PageRequest.of(page, size);
+        if ("summary".equals(view)) {
+            return commentService.findSummariesByPostId(postId, pageable, snippet);
+        }
         return commentService.findByPostId(postId, pageable);
     }
 
+    @GetMapping("/cursor")
+    public CursorPage<Comment> findByPostIdByCursor(
+            @PathVariable String postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        // Post 존재 여부 확인
+        postService.verifyExists(postId);
+        return commentService.findByPostId(postId, cursor, size);
+    }
+
+    // NDJSON 으로 해당 Post 의 댓글 전체를 내려준다.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String postId) {
+        postService.verifyExists(postId);
+        return ndjsonExporter.export(() -> commentService.streamByPostId(postId));
+    }
+
     @GetMapping("/search")
-    public Page<Comment> search(
+    public Page<?> search(
             @PathVariable String postId,
             @RequestParam String keyword,
             @RequestParam(defaultValue = "contentAndAuthor") String searchType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(Snippets.MAX_LENGTH) int snippet
     ) {
         // Post 존재 여부 확인
-        postService.findById(postId);
+        postService.verifyExists(postId);
         Pageable pageable = PageRequest.of(page, size);
-        return commentService.search(postId, keyword, searchType, pageable);
+        return switch (view) {
+            case "summary" -> commentService.searchSummaries(postId, keyword, searchType, pageable, snippet);
+            // content 의 일치 조각을 highlights 로 반환 (content 본문은 제외)
+            case "highlight" -> commentService.searchHighlighted(postId, keyword, searchType, pageable);
+            default -> commentService.search(postId, keyword, searchType, pageable);
+        };
     }
 
     @GetMapping("/{id}")
@@ -85,8 +161,8 @@ public class CommentController {
             @PathVariable String id
     ) {
         // Post 존재 여부 확인
-        postService.findById(postId);
-        return commentService.findById(id);
+        postService.verifyExists(postId);
+        return commentService.findById(postId, id);
     }
 
     public record UpdateCommentRequest(
@@ -99,11 +175,14 @@ public class CommentController {
     public Comment update(
             @PathVariable String postId,
             @PathVariable String id,
-            @RequestBody @Valid UpdateCommentRequest request
+            @RequestBody @Valid UpdateCommentRequest request,
+            @RequestParam(required = false) Long ifSeqNo,
+            @RequestParam(required = false) Long ifPrimaryTerm,
+            @RefreshParam RefreshPolicy refreshPolicy
     ) {
         // Post 존재 여부 확인
-        postService.findById(postId);
-        return commentService.update(id, request.content);
+        postService.verifyExists(postId);
+        return commentService.update(postId, id, request.content, PartialDocumentUpdater.expected(ifSeqNo, ifPrimaryTerm), refreshPolicy);
     }
 
     @DeleteMapping("/{id}")
@@ -112,8 +191,8 @@ public class CommentController {
             @PathVariable String id
     ) {
         // Post 존재 여부 확인
-        postService.findById(postId);
-        Comment comment = commentService.findById(id);
+        postService.verifyExists(postId);
+        Comment comment = commentService.findById(postId, id);
         commentService.delete(comment);
         return ResponseEntity.noContent().build();
     }
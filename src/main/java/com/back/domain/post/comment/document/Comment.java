@@ -7,8 +7,16 @@ import lombok.ToString;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.Routing;
+import org.springframework.data.elasticsearch.annotations.Setting;
 
-@Document(indexName = "comments")
+// 같은 Post 의 댓글은 postId 로 routing 해서 한 shard 에 모은다.
+// 그래서 get/update/delete 와 Post 단위 검색 모두 postId 를 routing 으로 넘겨야 한다. (CommentService)
+// 인덱스(또는 기간별 인덱스와 alias)는 CommentIndices 가 만든다.
+@Document(indexName = "comments", createIndex = false)
+// comment-settings.json 은 shard 수만 다르고 analysis 는 settings.json(Post)과 같아야 한다. (IndexSettingsTests 가 확인)
+@Setting(settingPath = "/elasticsearch/comment-settings.json")
+@Routing("postId")
 @Data
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
@@ -17,7 +25,7 @@ public class Comment extends BaseDocument<String> {
     @Field(type = FieldType.Keyword)
     private String postId;
 
-    @Field(type = FieldType.Text)
+    @Field(type = FieldType.Text, analyzer = "korean")
     private String content;
 
     @Field(type = FieldType.Keyword)
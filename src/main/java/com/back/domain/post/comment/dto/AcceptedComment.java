@@ -0,0 +1,8 @@
+package com.back.domain.post.comment.dto;
+
+// write-behind 모드에서 큐에 접수된 댓글. 색인은 나중에 bulk 로 이뤄진다.
+public record AcceptedComment(
+        String id,
+        String postId
+) {
+}
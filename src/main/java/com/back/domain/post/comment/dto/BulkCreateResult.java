@@ -0,0 +1,31 @@
+package com.back.domain.post.comment.dto;
+
+import java.util.List;
+
+public record BulkCreateResult(
+        int total,
+        int succeeded,
+        int failed,
+        List<Item> items
+) {
+    public record Item(
+            int index,
+            String id,
+            boolean success,
+            Integer status,
+            String error
+    ) {
+        public static Item success(int index, String id) {
+            return new Item(index, id, true, 201, null);
+        }
+
+        public static Item failure(int index, String id, Integer status, String error) {
+            return new Item(index, id, false, status, error);
+        }
+    }
+
+    public static BulkCreateResult of(List<Item> items) {
+        int succeeded = (int) items.stream().filter(Item::success).count();
+        return new BulkCreateResult(items.size(), succeeded, items.size() - succeeded, items);
+    }
+}
@@ -0,0 +1,7 @@
+package com.back.domain.post.comment.dto;
+
+public record CommentDraft(
+        String content,
+        String author
+) {
+}
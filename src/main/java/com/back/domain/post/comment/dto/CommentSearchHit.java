@@ -0,0 +1,29 @@
+package com.back.domain.post.comment.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.elasticsearch.core.SearchHit;
+
+import com.back.domain.post.comment.document.Comment;
+
+// 검색 결과 화면용 Comment. content 대신 highlights 에 content 의 일치 조각을 담는다.
+public record CommentSearchHit(
+        String id,
+        String postId,
+        String author,
+        OffsetDateTime createdAt,
+        Map<String, List<String>> highlights
+) {
+    public static CommentSearchHit from(SearchHit<Comment> hit) {
+        Comment comment = hit.getContent();
+        return new CommentSearchHit(
+                hit.getId(),
+                comment.getPostId(),
+                comment.getAuthor(),
+                comment.getCreatedAt(),
+                hit.getHighlightFields()
+        );
+    }
+}
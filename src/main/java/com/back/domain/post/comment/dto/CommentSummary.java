@@ -0,0 +1,31 @@
+package com.back.domain.post.comment.dto;
+
+import java.time.OffsetDateTime;
+
+import org.springframework.data.elasticsearch.core.SearchHit;
+
+import com.back.domain.post.comment.document.Comment;
+import com.back.global.elasticsearch.Snippets;
+
+// 목록/검색 화면용 Comment. content 대신 snippet(선택)만 담는다.
+public record CommentSummary(
+        String id,
+        String postId,
+        String author,
+        OffsetDateTime createdAt,
+        String snippet
+) {
+    // _source includes 로 가져올 필드
+    public static final String[] SOURCE_FIELDS = {"postId", "author", "createdAt"};
+
+    public static CommentSummary from(SearchHit<Comment> hit) {
+        Comment comment = hit.getContent();
+        return new CommentSummary(
+                hit.getId(),
+                comment.getPostId(),
+                comment.getAuthor(),
+                comment.getCreatedAt(),
+                Snippets.from(hit, "content")
+        );
+    }
+}
@@ -1,30 +1,18 @@
 package com.back.domain.post.comment.repository;
 
-import java.util.List;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.annotations.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 
 import com.back.domain.post.comment.document.Comment;
 
 public interface CommentRepository extends ElasticsearchRepository<Comment,String> {
-    List<Comment> findAll();
+    // scroll 기반 Stream: 500 건씩 가져오며 close 시 scroll 컨텍스트를 정리한다.
+    @Query("{\"match_all\": {}}")
+    Stream<Comment> streamAll();
 
-    List<Comment> findByPostId(String postId);
+    // Post 단위 조회는 postId routing 을 걸어야 하므로 CommentService 에서 NativeQuery 로 처리한다.
 
-    Page<Comment> findByPostId(String postId, Pageable pageable);
-
-    // 내용 검색
-    Page<Comment> findByPostIdAndContentContaining(String postId, String content, Pageable pageable);
-
-    // 작성자 검색
-    Page<Comment> findByPostIdAndAuthor(String postId, String author, Pageable pageable);
-
-    // 내용 + 작성자 검색
-    Page<Comment> findByPostIdAndContentContainingOrPostIdAndAuthor(
-            String postId1, String content,
-            String postId2, String author,
-            Pageable pageable
-    );
+    // 검색은 CommentService.search 에서 nori 분석 필드에 match 쿼리로 처리한다. (*Containing 은 wildcard 쿼리가 된다)
 }
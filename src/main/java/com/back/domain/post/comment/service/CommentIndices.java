@@ -0,0 +1,260 @@
+package com.back.domain.post.comment.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.PutIndexTemplateRequest;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.domain.post.comment.document.Comment;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.get.GetResult;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
+import lombok.extern.slf4j.Slf4j;
+
+// comments 인덱스의 생성/교체를 맡는다.
+// rolling 이 꺼져 있으면 단일 인덱스 comments 를 만들기만 한다.
+// 켜져 있으면 기간별 인덱스(예: comments-2026.10)에 나눠 쓴다.
+//   - 읽기: alias "comments" (@Document indexName). index template 이 새 기간 인덱스마다 붙여준다.
+//   - 쓰기: write-alias 가 현재 기간 인덱스 하나만 가리킨다.
+//   - check-interval 마다 기간이 바뀌었는지 확인해서 새 인덱스를 만들고 write-alias 를 옮긴다.
+//     빠진 인덱스는 더 이상 쓰이지 않으므로 force merge 하고, retain-periods 를 넘긴 인덱스는 통째로 삭제한다.
+// 기간 경계는 check-interval 만큼 늦게 반영될 수 있다. (경계 직후 댓글이 이전 기간 인덱스에 들어갈 수 있음)
+// 여러 인스턴스가 같은 시점에 roll 해도 되도록 생성/alias 교체/삭제는 이미 반영된 상태를 성공으로 본다.
+// 한 댓글이 어느 기간 인덱스에 있는지는 ID 만으로 알 수 없으므로 get/update/delete 전에 locate 로 찾는다.
+@Component
+@Slf4j
+public class CommentIndices {
+    // 찾은 댓글과 그 댓글이 있는 실제 기간 인덱스 이름
+    public record Located(String index, Comment comment) {
+    }
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final boolean rolling;
+    private final RollingPeriod period;
+    private final Clock clock;
+    private final String readAlias;
+    private final String writeAlias;
+    private final int retainPeriods;
+    private final boolean forceMergeOnRollover;
+
+    @Autowired
+    public CommentIndices(
+            ElasticsearchTemplate elasticsearchTemplate,
+            @Value("${custom.comment.rolling.enabled}") boolean rolling,
+            @Value("${custom.comment.rolling.period}") ChronoUnit period,
+            @Value("${custom.comment.rolling.time-zone}") ZoneId timeZone,
+            @Value("${custom.comment.rolling.write-alias}") String writeAlias,
+            @Value("${custom.comment.rolling.retain-periods}") int retainPeriods,
+            @Value("${custom.comment.rolling.force-merge-on-rollover}") boolean forceMergeOnRollover
+    ) {
+        this(elasticsearchTemplate, elasticsearchTemplate.getIndexCoordinatesFor(Comment.class).getIndexName(),
+                rolling, period, Clock.system(timeZone), writeAlias, retainPeriods, forceMergeOnRollover);
+    }
+
+    // 테스트에서 alias 이름과 시계를 바꿔 끼울 수 있도록 열어둔다.
+    CommentIndices(
+            ElasticsearchTemplate elasticsearchTemplate,
+            String readAlias,
+            boolean rolling,
+            ChronoUnit period,
+            Clock clock,
+            String writeAlias,
+            int retainPeriods,
+            boolean forceMergeOnRollover
+    ) {
+        this.elasticsearchTemplate = elasticsearchTemplate;
+        this.rolling = rolling;
+        this.period = new RollingPeriod(readAlias + "-", period);
+        this.clock = clock;
+        this.readAlias = readAlias;
+        this.writeAlias = writeAlias;
+        this.retainPeriods = retainPeriods;
+        this.forceMergeOnRollover = forceMergeOnRollover;
+    }
+
+    public boolean isRolling() {
+        return rolling;
+    }
+
+    // 새 댓글을 쓸 곳. rolling 이면 write-alias, 아니면 comments
+    public IndexCoordinates writeIndex() {
+        return IndexCoordinates.of(rolling ? writeAlias : readAlias);
+    }
+
+    // 읽기 alias 뒤의 기간 인덱스 전부에 realtime _mget 을 보내서 댓글을 찾는다. 없으면 null
+    // 검색과 달리 refresh 전의 문서(refresh=none, write-behind 로 막 색인된 댓글)도 찾는다.
+    // 다른 인스턴스가 먼저 roll 했을 수 있으므로 인덱스 목록은 캐시하지 않고 매번 alias 에서 읽는다.
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Located locate(String postId, String id) {
+        List<String> candidates = readIndices();
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        MgetResponse<Map> response = elasticsearchTemplate.execute(client -> client.mget(m -> {
+            candidates.forEach(index -> m.docs(d -> d.index(index).id(id).routing(postId)));
+            return m;
+        }, Map.class));
+
+        // 삭제된 기간 인덱스는 항목별 failure 로 오므로 건너뛴다.
+        for (MultiGetResponseItem<Map> item : response.docs()) {
+            if (!item.isResult() || !item.result().found()) {
+                continue;
+            }
+            GetResult<Map> result = item.result();
+            Document document = Document.from(result.source());
+            document.setId(id);
+            document.setSeqNo(result.seqNo());
+            document.setPrimaryTerm(result.primaryTerm());
+            Comment comment = elasticsearchTemplate.getElasticsearchConverter().read(Comment.class, document);
+            if (postId.equals(comment.getPostId())) {
+                return new Located(result.index(), comment);
+            }
+        }
+        return null;
+    }
+
+    // 시작 시 한 번: template 을 등록하고 현재 기간 인덱스와 alias 를 맞춘다.
+    public synchronized void initialize() {
+        IndexOperations indexOps = elasticsearchTemplate.indexOps(IndexCoordinates.of(readAlias));
+        IndexOperations entityOps = elasticsearchTemplate.indexOps(Comment.class);
+        if (!rolling) {
+            if (!indexOps.exists()) {
+                createIgnoringExisting(readAlias, () -> indexOps.create(entityOps.createSettings(), entityOps.createMapping()));
+            }
+            return;
+        }
+        if (indexOps.exists() && !aliasExists(readAlias)) {
+            throw new IllegalStateException(("%s 가 실제 인덱스라서 같은 이름의 읽기 alias 를 만들 수 없습니다. "
+                    + "rolling 을 끈 상태에서 ES_MIGRATE_INDICES=%s 로 먼저 alias 로 옮겨주세요.").formatted(readAlias, readAlias));
+        }
+        // 같은 이름으로 다시 등록하면 덮어쓰므로 여러 인스턴스가 동시에 등록해도 된다.
+        indexOps.putIndexTemplate(PutIndexTemplateRequest.builder()
+                .withName(readAlias)
+                .withIndexPatterns(period.pattern())
+                .withSettings(entityOps.createSettings())
+                .withMapping(entityOps.createMapping())
+                .withAliasActions(new AliasActions(new AliasAction.Add(
+                        AliasActionParameters.builderForTemplate().withAliases(readAlias).build())))
+                .build());
+        log.info("comments index template 등록: {}", period.pattern());
+        roll();
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.comment.rolling.check-interval}",
+            fixedDelayString = "${custom.comment.rolling.check-interval}"
+    )
+    public synchronized void roll() {
+        if (!rolling) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        String current = period.indexName(today);
+        if (!elasticsearchTemplate.indexOps(IndexCoordinates.of(current)).exists()) {
+            // settings/mapping/읽기 alias 는 template 에서 온다.
+            createIgnoringExisting(current, () ->
+                    elasticsearchTemplate.execute(client -> client.indices().create(c -> c.index(current))));
+        }
+
+        Set<String> previous = aliasExists(writeAlias) ? resolveIndices(writeAlias) : Set.of();
+        if (!previous.equals(Set.of(current))) {
+            // 다른 인스턴스가 먼저 옮겼으면 remove 는 아무 일도 하지 않고(must_exist=false) add 는 같은 상태를 다시 쓴다.
+            elasticsearchTemplate.execute(client -> client.indices().updateAliases(u -> {
+                if (!previous.isEmpty()) {
+                    u.actions(a -> a.remove(r -> r.indices(List.copyOf(previous)).alias(writeAlias).mustExist(false)));
+                }
+                return u.actions(a -> a.add(ad -> ad.index(current).alias(writeAlias).isWriteIndex(true)));
+            }));
+            log.info("{} 교체: {} -> {}", writeAlias, previous, current);
+            if (forceMergeOnRollover) {
+                previous.stream()
+                        .filter(index -> !index.equals(current))
+                        .forEach(this::forceMerge);
+            }
+        }
+
+        deleteExpired(today, current);
+    }
+
+    // 더 이상 쓰지 않는 인덱스를 segment 1 개로 합친다. 완료를 기다리지 않는다.
+    private void forceMerge(String index) {
+        elasticsearchTemplate.execute(client -> client.indices().forcemerge(f -> f
+                .index(index)
+                .maxNumSegments(1L)
+                .waitForCompletion(false)));
+        log.info("comments 기간 인덱스 force merge 요청: {}", index);
+    }
+
+    private void deleteExpired(LocalDate today, String current) {
+        List<String> expired = resolveIndices(period.pattern()).stream()
+                .filter(index -> !index.equals(current))
+                .filter(index -> period.isExpired(index, today, retainPeriods))
+                .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+        // 다른 인스턴스가 먼저 지웠어도 실패하지 않도록 ignore_unavailable
+        elasticsearchTemplate.execute(client -> client.indices().delete(d -> d.index(expired).ignoreUnavailable(true)));
+        log.info("보존 기간이 지난 comments 인덱스 삭제: {}", expired);
+    }
+
+    // 다른 인스턴스가 먼저 만든 경우(resource_already_exists_exception)는 성공으로 본다.
+    private void createIgnoringExisting(String index, Runnable create) {
+        try {
+            create.run();
+            log.info("comments 인덱스 생성: {}", index);
+        } catch (RuntimeException e) {
+            if (!isAlreadyExists(e)) {
+                throw e;
+            }
+            log.debug("comments 인덱스 {} 는 이미 생성됨", index);
+        }
+    }
+
+    private static boolean isAlreadyExists(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ElasticsearchException es
+                    && "resource_already_exists_exception".equals(es.error().type())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 최신 기간부터. alias 는 initialize 에서 만들어지므로 항상 있다.
+    private List<String> readIndices() {
+        return elasticsearchTemplate.execute(client -> client.indices().getAlias(g -> g.name(readAlias)).aliases())
+                .keySet().stream()
+                .sorted()
+                .toList()
+                .reversed();
+    }
+
+    private boolean aliasExists(String alias) {
+        return elasticsearchTemplate.execute(client -> client.indices().existsAlias(e -> e.name(alias)).value());
+    }
+
+    private Set<String> resolveIndices(String name) {
+        return elasticsearchTemplate.execute(client ->
+                client.indices().get(g -> g.index(name).allowNoIndices(true).ignoreUnavailable(true)).indices().keySet()
+        );
+    }
+}
@@ -1,68 +1,352 @@
 package com.back.domain.post.comment.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.SlicesCalculation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+import org.springframework.data.elasticsearch.core.routing.RoutingResolver;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.stereotype.Service;
 
 import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.comment.dto.AcceptedComment;
+import com.back.domain.post.comment.dto.BulkCreateResult;
+import com.back.domain.post.comment.dto.CommentDraft;
+import com.back.domain.post.comment.dto.CommentSearchHit;
+import com.back.domain.post.comment.dto.CommentSummary;
 import com.back.domain.post.comment.repository.CommentRepository;
 import com.back.domain.post.post.document.Post;
+import com.back.domain.post.post.service.PostCommentCounter;
+import com.back.global.elasticsearch.Highlights;
+import com.back.global.elasticsearch.PartialDocumentUpdater;
+import com.back.global.elasticsearch.RefreshPolicies;
+import com.back.global.elasticsearch.Snippets;
 import com.back.global.exception.NotFoundException;
+import com.back.global.exception.ServiceUnavailableException;
+import com.back.global.pagination.Cursor;
+import com.back.global.pagination.CursorPage;
+import com.back.global.pagination.SearchPages;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class CommentService {
     private final CommentRepository commentRepository;
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final PostCommentCounter postCommentCounter;
+    private final PartialDocumentUpdater partialDocumentUpdater;
+    private final RefreshPolicies refreshPolicies;
+    private final CommentWriteBehindBuffer commentWriteBehindBuffer;
+    private final CommentIndices commentIndices;
+
+    @Value("${custom.comment.bulk.chunk-size}")
+    private int bulkChunkSize;
 
     public long count() {
         return commentRepository.count();
     }
 
     public Comment create(Post post, String content, String author) {
-        Comment comment = new Comment(post.getId(),content, author);
-        return commentRepository.save(comment);
+        return create(post.getId(), content, author);
+    }
+
+    public Comment create(String postId, String content, String author) {
+        return create(postId, content, author, RefreshPolicy.IMMEDIATE);
+    }
+
+    public Comment create(String postId, String content, String author, RefreshPolicy refreshPolicy) {
+        Comment comment = new Comment(postId, content, author);
+        Comment saved = refreshPolicies.operations(refreshPolicy).save(comment, commentIndices.writeIndex());
+        postCommentCounter.increment(postId, 1);
+        return saved;
+    }
+
+    public boolean isWriteBehindEnabled() {
+        return commentWriteBehindBuffer.isEnabled();
     }
 
-    public List<Comment> findAll() {
-        return commentRepository.findAll();
+    // write-behind 모드: 큐에 접수만 하고 색인과 commentCount 반영은 flush 시점에 한다.
+    public AcceptedComment enqueue(String postId, String content, String author) {
+        return commentWriteBehindBuffer.offer(postId, content, author);
     }
 
-    public Comment findById(String id) {
-        return commentRepository.findById(id).orElseThrow(()->new NotFoundException("Comment not found with id: " + id));
+    public BulkCreateResult createAll(String postId, List<CommentDraft> drafts) {
+        return createAll(postId, drafts, RefreshPolicy.NONE);
     }
 
-    public List<Comment> findByPostId(String postId) {
-        return commentRepository.findByPostId(postId);
+    // 게시글 검증은 호출측에서 한 번만 하고, chunk 단위로 _bulk 요청을 보낸다.
+    // ID를 미리 할당해서 실패한 문서를 요청 순번과 매칭한다.
+    // refreshPolicy 는 마지막 chunk 에만 적용해서 중간 chunk 마다 refresh 하지 않는다.
+    // commentCount 는 chunk 가 끝날 때마다 반영한다. 뒤 chunk 가 요청째로 실패해도(연결 오류, bulkhead 거절 등)
+    // 앞 chunk 는 이미 색인되었으므로 셈에서 빠지면 안 되고, 실패한 chunk 의 항목은 실패로 응답한다.
+    public BulkCreateResult createAll(String postId, List<CommentDraft> drafts, RefreshPolicy refreshPolicy) {
+        IndexCoordinates index = commentIndices.writeIndex();
+        int chunkSize = Math.max(1, bulkChunkSize);
+        List<BulkCreateResult.Item> items = new ArrayList<>(drafts.size());
+
+        for (int from = 0; from < drafts.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, drafts.size());
+            List<IndexQuery> queries = new ArrayList<>(to - from);
+            for (CommentDraft draft : drafts.subList(from, to)) {
+                queries.add(new IndexQueryBuilder()
+                        .withId(UUID.randomUUID().toString())
+                        .withRouting(postId)
+                        .withObject(new Comment(postId, draft.content(), draft.author()))
+                        .build());
+            }
+
+            Map<String, BulkFailureException.FailureDetails> failedDocuments = Map.of();
+            RuntimeException chunkFailure = null;
+            try {
+                RefreshPolicy chunkPolicy = to == drafts.size() ? refreshPolicy : RefreshPolicy.NONE;
+                refreshPolicies.operations(chunkPolicy).bulkIndex(queries, index);
+            } catch (BulkFailureException e) {
+                failedDocuments = e.getFailedDocuments();
+            } catch (RuntimeException e) {
+                log.warn("댓글 bulk chunk 실패 postId: {}, {}~{}: {}", postId, from, to - 1, e.toString());
+                chunkFailure = e;
+            }
+
+            int succeeded = 0;
+            for (int i = 0; i < queries.size(); i++) {
+                String id = queries.get(i).getId();
+                if (chunkFailure != null) {
+                    items.add(BulkCreateResult.Item.failure(from + i, id, chunkFailureStatus(chunkFailure), chunkFailure.getMessage()));
+                    continue;
+                }
+                BulkFailureException.FailureDetails failure = failedDocuments.get(id);
+                if (failure == null) {
+                    items.add(BulkCreateResult.Item.success(from + i, id));
+                    succeeded++;
+                } else {
+                    items.add(BulkCreateResult.Item.failure(from + i, id, failure.status(), failure.errorMessage()));
+                }
+            }
+            postCommentCounter.increment(postId, succeeded);
+        }
+
+        return BulkCreateResult.of(items);
+    }
+
+    // 요청째로 실패한 chunk 의 항목 상태. 연결 오류와 bulkhead 거절은 503, 그 밖은 500
+    private static int chunkFailureStatus(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ServiceUnavailableException || cause instanceof DataAccessResourceFailureException) {
+                return 503;
+            }
+        }
+        return 500;
+    }
+
+    // 호출한 쪽에서 try-with-resources 로 닫아야 scroll 컨텍스트가 바로 정리된다.
+    public Stream<Comment> streamAll() {
+        return commentRepository.streamAll();
+    }
+
+    // 댓글은 postId 로 routing 되어 있어서 routing 없이 get 하면 다른 shard 를 조회하게 된다.
+    // 기간별 인덱스를 쓰면 alias 로 get 할 수 없으므로 기간 인덱스들에 realtime _mget 을 보낸다.
+    public Comment findById(String postId, String id) {
+        Comment comment;
+        if (commentIndices.isRolling()) {
+            CommentIndices.Located located = commentIndices.locate(postId, id);
+            comment = located == null ? null : located.comment();
+        } else {
+            comment = elasticsearchTemplate.withRouting(RoutingResolver.just(postId)).get(id, Comment.class);
+        }
+        if (comment == null || !postId.equals(comment.getPostId())) {
+            throw new NotFoundException("Comment not found with id: " + id);
+        }
+        return comment;
+    }
+
+    // 호출한 쪽에서 try-with-resources 로 닫아야 scroll 컨텍스트가 바로 정리된다.
+    public Stream<Comment> streamByPostId(String postId) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(postFilter(postId))
+                .withRoute(postId)
+                .build();
+        return StreamUtils.createStreamFromIterator(elasticsearchTemplate.searchForStream(query, Comment.class))
+                .map(SearchHit::getContent);
     }
 
     public Page<Comment> findByPostId(String postId, Pageable pageable) {
-        return commentRepository.findByPostId(postId, pageable);
+        return SearchPages.of(elasticsearchTemplate.search(byPostIdQuery(postId, pageable), Comment.class), pageable);
     }
 
+    // findByPostId 와 같은 쿼리. 다른 검색과 _msearch 로 묶어 보낼 때 사용한다. (PostService.findByIdWithComments)
+    public static NativeQuery byPostIdQuery(String postId, Pageable pageable) {
+        return NativeQuery.builder()
+                .withQuery(postFilter(postId))
+                .withRoute(postId)
+                .withPageable(pageable)
+                .build();
+    }
+
+    public CursorPage<Comment> findByPostId(String postId, String cursor, int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(postFilter(postId))
+                .withRoute(postId)
+                .withSort(Cursor.SORT)
+                .withSearchAfter(Cursor.searchAfter(cursor))
+                .withMaxResults(size)
+                .withTrackTotalHits(false)
+                .build();
+        return CursorPage.of(elasticsearchTemplate.search(query, Comment.class), size);
+    }
+
+    // postId 는 filter 로 걸고 content 는 korean(nori) 분석 필드에 match 쿼리로 관련도를 계산한다.
+    // Post 단위 조회는 모두 postId 를 routing 으로 넘겨서 해당 shard 하나만 검색한다.
     public Page<Comment> search(String postId, String keyword, String searchType, Pageable pageable) {
+        Query query = searchQuery(postId, keyword, searchType);
+        if (query == null) {
+            return findByPostId(postId, pageable);
+        }
+        NativeQuery nativeQuery = NativeQuery.builder()
+                .withQuery(query)
+                .withRoute(postId)
+                .withPageable(pageable)
+                .build();
+        return SearchPages.of(elasticsearchTemplate.search(nativeQuery, Comment.class), pageable);
+    }
+
+    // 목록 화면용: _source 는 CommentSummary.SOURCE_FIELDS 만 받고 content 는 snippetLength 글자까지만 받는다.
+    public Page<CommentSummary> findSummariesByPostId(String postId, Pageable pageable, int snippetLength) {
+        return summaries(postId, postFilter(postId), pageable, snippetLength);
+    }
+
+    public Page<CommentSummary> searchSummaries(String postId, String keyword, String searchType, Pageable pageable, int snippetLength) {
+        Query query = searchQuery(postId, keyword, searchType);
+        return summaries(postId, query == null ? postFilter(postId) : query, pageable, snippetLength);
+    }
+
+    // 검색 결과 화면용: content 는 받지 않고 content 일치 조각만 highlight 로 받는다.
+    public Page<CommentSearchHit> searchHighlighted(String postId, String keyword, String searchType, Pageable pageable) {
+        Query query = searchQuery(postId, keyword, searchType);
+        NativeQuery nativeQuery = NativeQuery.builder()
+                .withQuery(query == null ? postFilter(postId) : query)
+                .withRoute(postId)
+                .withSourceFilter(FetchSourceFilter.of(b -> b.withIncludes(CommentSummary.SOURCE_FIELDS)))
+                .withHighlightQuery(Highlights.query(Comment.class, List.of(), List.of("content")))
+                .withPageable(pageable)
+                .build();
+        return SearchPages.of(elasticsearchTemplate.search(nativeQuery, Comment.class), pageable, CommentSearchHit::from);
+    }
+
+    private Page<CommentSummary> summaries(String postId, Query query, Pageable pageable, int snippetLength) {
+        NativeQueryBuilder nativeQuery = NativeQuery.builder()
+                .withQuery(query)
+                .withRoute(postId)
+                .withSourceFilter(FetchSourceFilter.of(b -> b.withIncludes(CommentSummary.SOURCE_FIELDS)))
+                .withPageable(pageable);
+        if (snippetLength > 0) {
+            nativeQuery.withHighlightQuery(Snippets.query("content", snippetLength, Comment.class));
+        }
+        return SearchPages.of(elasticsearchTemplate.search(nativeQuery.build(), Comment.class), pageable, CommentSummary::from);
+    }
+
+    private static Query postFilter(String postId) {
+        return Query.of(q -> q.term(t -> t.field("postId").value(postId)));
+    }
+
+    // 알 수 없는 searchType 이면 null (해당 Post 의 전체 댓글)
+    private static Query searchQuery(String postId, String keyword, String searchType) {
+        Query postFilter = postFilter(postId);
         return switch (searchType) {
-            case "content" -> commentRepository.findByPostIdAndContentContaining(postId, keyword, pageable);
-            case "author" -> commentRepository.findByPostIdAndAuthor(postId, keyword, pageable);
-            case "contentAndAuthor" -> commentRepository.findByPostIdAndContentContainingOrPostIdAndAuthor(
-                    postId, keyword, postId, keyword, pageable
-            );
-            default -> commentRepository.findByPostId(postId, pageable);
+            case "content" -> Query.of(q -> q.bool(b -> b
+                    .filter(postFilter)
+                    .must(m -> m.match(mt -> mt.field("content").query(keyword)))));
+            case "author" -> Query.of(q -> q.bool(b -> b
+                    .filter(postFilter)
+                    .filter(f -> f.term(t -> t.field("author").value(keyword)))));
+            case "contentAndAuthor" -> Query.of(q -> q.bool(b -> b
+                    .filter(postFilter)
+                    .should(sh -> sh.match(mt -> mt.field("content").query(keyword)))
+                    .should(sh -> sh.term(t -> t.field("author").value(keyword)))
+                    .minimumShouldMatch("1")));
+            default -> null;
         };
     }
 
-    public Comment update(String id, String content) {
-        Comment comment = findById(id);
+    // NONE 으로 대량 쓰기를 마친 뒤 한 번만 refresh 할 때 사용
+    public void refresh() {
+        elasticsearchTemplate.indexOps(Comment.class).refresh();
+    }
+
+    public Comment update(String postId, String id, String content) {
+        return update(postId, id, content, null, RefreshPolicy.IMMEDIATE);
+    }
+
+    public Comment update(String postId, String id, String content, SeqNoPrimaryTerm expected, RefreshPolicy refreshPolicy) {
+        Map<String, Object> changes = new HashMap<>();
         if (content != null){
-            comment.setContent(content);
+            changes.put("content", content);
+        }
+        if (commentIndices.isRolling()) {
+            IndexCoordinates index = IndexCoordinates.of(locateIndex(postId, id));
+            return partialDocumentUpdater.update(Comment.class, index, id, postId, changes, expected, refreshPolicy);
         }
-        return commentRepository.save(comment);
+        return partialDocumentUpdater.update(Comment.class, id, postId, changes, expected, refreshPolicy);
     }
 
+    // repository 의 delete(entity) 는 @Routing 필드(postId) 값을 routing 으로 넘긴다.
+    // 기간별 인덱스를 쓰면 댓글이 있는 인덱스를 찾아서 지운다. 목록 검색에서 바로 빠지도록 refresh 한다.
     public void delete(Comment comment) {
-        commentRepository.delete(comment);
+        if (commentIndices.isRolling()) {
+            IndexCoordinates index = IndexCoordinates.of(locateIndex(comment.getPostId(), comment.getId()));
+            refreshPolicies.operations(RefreshPolicy.IMMEDIATE)
+                    .withRouting(RoutingResolver.just(comment.getPostId()))
+                    .delete(comment.getId(), index);
+        } else {
+            commentRepository.delete(comment);
+        }
+        postCommentCounter.increment(comment.getPostId(), -1);
+    }
+
+    private String locateIndex(String postId, String id) {
+        CommentIndices.Located located = commentIndices.locate(postId, id);
+        if (located == null) {
+            throw new NotFoundException("Comment not found with id: " + id);
+        }
+        return located.index();
+    }
+
+    // 게시글 삭제 시 딸린 댓글을 _delete_by_query 한 번으로 비동기 삭제하고 task ID 를 반환한다.
+    // write-behind 큐에 남은 댓글은 delete_by_query 뒤에 색인되어 고아로 남으므로 먼저 버린다.
+    public String deleteAllByPostId(String postId) {
+        commentWriteBehindBuffer.discard(postId);
+        String index = elasticsearchTemplate.getIndexCoordinatesFor(Comment.class).getIndexName();
+        return elasticsearchTemplate.execute(client -> client.deleteByQuery(d -> d
+                .index(index)
+                .routing(postId)
+                .query(postFilter(postId))
+                .slices(s -> s.computed(SlicesCalculation.Auto))
+                .conflicts(Conflicts.Proceed)
+                .waitForCompletion(false)
+        )).task();
     }
 }
@@ -0,0 +1,263 @@
+package com.back.domain.post.comment.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.comment.dto.AcceptedComment;
+import com.back.domain.post.post.service.PostCommentCounter;
+import com.back.global.exception.ServiceUnavailableException;
+import com.back.global.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 댓글 생성 요청을 메모리 큐에 받아두고 batch-size 건이 모이거나 flush-interval 이 지나면 _bulk 로 색인한다.
+// 큐가 가득 차면 429 로 거절하고, 종료 시에는 새 요청을 막은 뒤 큐를 모두 비우고 내려간다.
+// ID 는 접수 시점에 할당하므로 클라이언트는 색인 전에도 ID 를 받는다. (조회는 색인 후부터 가능)
+// 이미 202 로 접수한 댓글이므로 _bulk 자체가 실패하거나(연결 오류, timeout, bulkhead 거절 등)
+// 일부 문서가 429/5xx 로 실패하면 버리지 않고 retry-backoff 부터 두 배씩 늘려가며 다시 보낸다.
+// 같은 ID 로 다시 색인하므로 앞선 시도가 실제로는 반영됐더라도 중복되지 않는다.
+// 게시글이 삭제되면 discard 로 그 게시글의 댓글을 큐에서 빼고, 이후 flush(재시도 포함)에서도 걸러낸다.
+@Component
+@Slf4j
+public class CommentWriteBehindBuffer {
+    // 삭제된 게시글 ID 를 기억하는 시간. 삭제 직전에 존재 확인을 통과한 요청이 뒤늦게 접수되거나
+    // 재시도 중인 댓글이 남아 있을 수 있으므로 그보다 넉넉하게 둔다.
+    private static final Duration DISCARDED_POST_TTL = Duration.ofHours(1);
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final CommentIndices commentIndices;
+    private final PostCommentCounter postCommentCounter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration drainTimeout;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final BlockingQueue<IndexQuery> queue;
+
+    private volatile boolean accepting;
+    // accepting 확인과 큐 적재 사이에 drain 이 끼어들면 flusher 가 끝난 뒤 들어간 댓글이 사라진다.
+    // offer 끼리는 read lock 으로 동시에 들어가고, drain 은 write lock 으로 진행 중인 offer 가 끝난 뒤에 accepting 을 내린다.
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private final Cache<String, Boolean> discardedPosts = Caffeine.newBuilder()
+            .expireAfterWrite(DISCARDED_POST_TTL)
+            .build();
+    // discard 가 끝난 뒤에는 그 게시글의 댓글을 담은 _bulk 가 진행 중이지 않도록 flush 와 discard 를 서로 막는다.
+    private final Object flushLock = new Object();
+    private volatile int retrying;
+    private Thread flusher;
+
+    public CommentWriteBehindBuffer(
+            ElasticsearchTemplate elasticsearchTemplate,
+            CommentIndices commentIndices,
+            PostCommentCounter postCommentCounter,
+            @Value("${custom.comment.write-behind.enabled}") boolean enabled,
+            @Value("${custom.comment.write-behind.queue-capacity}") int queueCapacity,
+            @Value("${custom.comment.write-behind.batch-size}") int batchSize,
+            @Value("${custom.comment.write-behind.flush-interval}") Duration flushInterval,
+            @Value("${custom.comment.write-behind.drain-timeout}") Duration drainTimeout,
+            @Value("${custom.comment.write-behind.retry-backoff}") Duration retryBackoff,
+            @Value("${custom.comment.write-behind.max-retry-backoff}") Duration maxRetryBackoff
+    ) {
+        this.elasticsearchTemplate = elasticsearchTemplate;
+        this.commentIndices = commentIndices;
+        this.postCommentCounter = postCommentCounter;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = flushInterval;
+        this.drainTimeout = drainTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        accepting = true;
+        flusher = Thread.ofPlatform()
+                .name("comment-write-behind")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    public AcceptedComment offer(String postId, String content, String author) {
+        String id = UUID.randomUUID().toString();
+        IndexQuery query = new IndexQueryBuilder()
+                .withId(id)
+                .withRouting(postId)
+                .withObject(new Comment(postId, content, author))
+                .build();
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) {
+                throw new ServiceUnavailableException("Comment write-behind buffer is shutting down");
+            }
+            if (!queue.offer(query)) {
+                throw new TooManyRequestsException("Comment write-behind buffer is full");
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        return new AcceptedComment(id, postId);
+    }
+
+    // 삭제된 게시글의 댓글을 버린다. 반환된 뒤 시작하는 delete_by_query 가 남김없이 지울 수 있도록
+    // 이미 _bulk 로 보내는 중인 댓글은 그 요청이 끝날 때까지 기다린다.
+    public void discard(String postId) {
+        if (flusher == null) {
+            return;
+        }
+        synchronized (flushLock) {
+            discardedPosts.put(postId, Boolean.TRUE);
+            queue.removeIf(query -> postId.equals(postIdOf(query)));
+        }
+    }
+
+    @PreDestroy
+    public void drain() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        flusher.join(drainTimeout);
+        if (flusher.isAlive()) {
+            log.warn("write-behind drain 시간 초과, 색인되지 않은 댓글 {} 건", queue.size() + retrying);
+        }
+    }
+
+    private void run() {
+        List<IndexQuery> retry = List.of();
+        Duration backoff = retryBackoff;
+        // accepting 이 false 가 된 뒤에도 큐와 재시도 대상이 빌 때까지 계속 flush 한다.
+        while (accepting || !queue.isEmpty() || !retry.isEmpty()) {
+            try {
+                List<IndexQuery> batch = retry.isEmpty() ? nextBatch() : retry;
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                retry = flush(batch);
+                retrying = retry.size();
+                if (retry.isEmpty()) {
+                    backoff = retryBackoff;
+                } else {
+                    log.warn("write-behind {} 건 {} 후 재시도", retry.size(), backoff);
+                    Thread.sleep(backoff.toMillis());
+                    backoff = backoff.multipliedBy(2).compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff.multipliedBy(2);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 첫 건을 기다린 뒤 flush-interval 안에 batch-size 까지 모은다.
+    private List<IndexQuery> nextBatch() throws InterruptedException {
+        List<IndexQuery> batch = new ArrayList<>(batchSize);
+        IndexQuery first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !accepting) {
+                break;
+            }
+            IndexQuery next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    // 다시 보내야 할 문서를 반환한다. 재시도해도 소용없는 실패(매핑 오류 등 4xx)는 로그만 남기고 버린다.
+    private List<IndexQuery> flush(List<IndexQuery> batch) {
+        synchronized (flushLock) {
+            List<IndexQuery> live = batch.stream()
+                    .filter(query -> discardedPosts.getIfPresent(postIdOf(query)) == null)
+                    .toList();
+            if (live.size() < batch.size()) {
+                log.debug("write-behind 삭제된 게시글의 댓글 {} 건 버림", batch.size() - live.size());
+            }
+            return live.isEmpty() ? List.of() : index(live);
+        }
+    }
+
+    private List<IndexQuery> index(List<IndexQuery> batch) {
+        IndexCoordinates index = commentIndices.writeIndex();
+        Map<String, BulkFailureException.FailureDetails> failedDocuments = Map.of();
+        try {
+            elasticsearchTemplate.bulkIndex(batch, index);
+        } catch (BulkFailureException e) {
+            failedDocuments = e.getFailedDocuments();
+        } catch (RuntimeException e) {
+            log.warn("write-behind _bulk 실패 ({} 건 재시도 예정): {}", batch.size(), e.toString());
+            return batch;
+        }
+
+        List<IndexQuery> retry = new ArrayList<>();
+        Map<String, Long> succeededByPost = new HashMap<>();
+        for (IndexQuery query : batch) {
+            BulkFailureException.FailureDetails failure = failedDocuments.get(query.getId());
+            if (failure == null) {
+                succeededByPost.merge(postIdOf(query), 1L, Long::sum);
+            } else if (isRetryable(failure)) {
+                retry.add(query);
+            } else {
+                log.error("write-behind 색인 실패 id: {}, {}", query.getId(), failure.errorMessage());
+            }
+        }
+        succeededByPost.forEach(postCommentCounter::increment);
+        log.debug("write-behind flush: {} 건 (실패 {} 건, 재시도 {} 건)", batch.size(), failedDocuments.size(), retry.size());
+        return retry;
+    }
+
+    private static String postIdOf(IndexQuery query) {
+        return ((Comment) query.getObject()).getPostId();
+    }
+
+    private static boolean isRetryable(BulkFailureException.FailureDetails failure) {
+        Integer status = failure.status();
+        return status == null || status == 429 || status >= 500;
+    }
+}
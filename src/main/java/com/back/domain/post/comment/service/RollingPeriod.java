@@ -0,0 +1,74 @@
+package com.back.domain.post.comment.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+// 기간별 인덱스 이름 규칙: prefix + 기간 시작일 (DAYS: 2026.10.17, MONTHS: 2026.10, YEARS: 2026)
+class RollingPeriod {
+    private static final Map<ChronoUnit, String> SUFFIX_PATTERNS = Map.of(
+            ChronoUnit.DAYS, "uuuu.MM.dd",
+            ChronoUnit.MONTHS, "uuuu.MM",
+            ChronoUnit.YEARS, "uuuu"
+    );
+
+    private final String prefix;
+    private final ChronoUnit unit;
+    private final DateTimeFormatter suffix;
+
+    RollingPeriod(String prefix, ChronoUnit unit) {
+        if (!SUFFIX_PATTERNS.containsKey(unit)) {
+            throw new IllegalArgumentException("custom.comment.rolling.period 는 DAYS, MONTHS, YEARS 중 하나여야 합니다: " + unit);
+        }
+        this.prefix = prefix;
+        this.unit = unit;
+        this.suffix = new DateTimeFormatterBuilder()
+                .appendPattern(SUFFIX_PATTERNS.get(unit))
+                .parseDefaulting(ChronoField.MONTH_OF_YEAR, 1)
+                .parseDefaulting(ChronoField.DAY_OF_MONTH, 1)
+                .toFormatter();
+    }
+
+    String pattern() {
+        return prefix + "*";
+    }
+
+    LocalDate start(LocalDate date) {
+        return switch (unit) {
+            case DAYS -> date;
+            case MONTHS -> date.withDayOfMonth(1);
+            default -> date.withDayOfYear(1);
+        };
+    }
+
+    String indexName(LocalDate date) {
+        return prefix + suffix.format(start(date));
+    }
+
+    // 이 규칙으로 만든 이름(prefix + 기간 시작일)이 아니면 null
+    LocalDate parseStart(String index) {
+        if (!index.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            LocalDate start = LocalDate.parse(index.substring(prefix.length()), suffix);
+            return indexName(start).equals(index) ? start : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // today 가 속한 기간을 포함해 최근 retainPeriods 개 기간보다 오래된 인덱스인지. retainPeriods <= 0 이면 항상 false
+    boolean isExpired(String index, LocalDate today, int retainPeriods) {
+        if (retainPeriods <= 0) {
+            return false;
+        }
+        LocalDate start = parseStart(index);
+        LocalDate oldestKept = start(today).minus(retainPeriods - 1L, unit);
+        return start != null && start.isBefore(oldestKept);
+    }
+}
@@ -1,16 +1,28 @@
 package com.back.domain.post.post.controller;
 
 import com.back.domain.post.post.document.Post;
+import com.back.domain.post.post.dto.PostMultiGetItem;
+import com.back.domain.post.post.dto.PostSuggestion;
 import com.back.domain.post.post.service.PostService;
+import com.back.global.elasticsearch.PartialDocumentUpdater;
+import com.back.global.elasticsearch.Snippets;
+import com.back.global.export.NdjsonExporter;
+import com.back.global.pagination.CursorPage;
+import com.back.global.web.RefreshParam;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,6 +32,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final NdjsonExporter ndjsonExporter;
 
     record CreatePostRequest(
             @NotBlank(message = "Title must not be blank")
@@ -33,36 +46,95 @@ public class PostController {
 
     @PostMapping
     public ResponseEntity<Post> create(
-            @RequestBody @Valid CreatePostRequest request
+            @RequestBody @Valid CreatePostRequest request,
+            @RefreshParam RefreshPolicy refreshPolicy
     ){
         Post post = postService.create(
                 request.title,
                 request.content,
-                request.author
+                request.author,
+                refreshPolicy
         );
         return ResponseEntity.status(201).body(post);
     }
 
+    // view=summary 이면 content 없이 PostSummary 를 반환한다. snippet 은 content 미리보기 글자 수 (0 이면 생략)
     @RequestMapping
-    public Page<Post> findAll(@RequestParam (defaultValue = "0") int page,
-                              @RequestParam (defaultValue = "10") int size) {
+    public Page<?> findAll(@RequestParam (defaultValue = "0") int page,
+                           @RequestParam (defaultValue = "10") int size,
+                           @RequestParam (defaultValue = "full") String view,
+                           @RequestParam (defaultValue = "0") @Min(0) @Max(Snippets.MAX_LENGTH) int snippet) {
         Pageable pageable = PageRequest.of(page,size);
+        if ("summary".equals(view)) {
+            return postService.findAllSummaries(pageable, snippet);
+        }
         return postService.findAll(pageable);
     }
 
+    @GetMapping("/cursor")
+    public CursorPage<Post> findAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return postService.findAll(cursor, size);
+    }
+
+    // NDJSON 으로 전체 Post 를 내려준다.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjsonExporter.export(postService::streamAll);
+    }
+
     @GetMapping("/search")
-    public Page<Post> search(
+    public Page<?> search(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "titleAndContent") String searchType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(Snippets.MAX_LENGTH) int snippet
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        return postService.search(keyword, searchType, pageable);
+        return switch (view) {
+            case "summary" -> postService.searchSummaries(keyword, searchType, pageable, snippet);
+            // title/content 의 일치 조각을 highlights 로 반환 (content 본문은 제외)
+            case "highlight" -> postService.searchHighlighted(keyword, searchType, pageable);
+            default -> postService.search(keyword, searchType, pageable);
+        };
+    }
+
+    @GetMapping("/suggest")
+    public List<PostSuggestion> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return postService.suggest(prefix, size);
     }
 
+    record MultiGetPostRequest(
+            @NotEmpty(message = "Ids must not be empty")
+            @Size(max = 100)
+            List<@NotBlank String> ids,
+            // 지정하면 _source 를 이 필드들로 제한한다. (예: ["title", "author"])
+            List<String> fields
+    ){}
+
+    @PostMapping("/_mget")
+    public List<PostMultiGetItem> findAllById(
+            @RequestBody @Valid MultiGetPostRequest request
+    ) {
+        return postService.findAllById(request.ids, request.fields);
+    }
+
+    // includeComments=N 이면 Post 와 첫 N 개 댓글(PostWithComments)을 ES 요청 한 번으로 반환한다.
     @RequestMapping("/{id}")
-    public Post findById(@PathVariable String id) {
+    public Object findById(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(100) int includeComments
+    ) {
+        if (includeComments > 0) {
+            return postService.findByIdWithComments(id, includeComments);
+        }
         return postService.findById(id);
     }
 
@@ -77,19 +149,26 @@ public class PostController {
     @PutMapping("/{id}")
     public Post update(
             @PathVariable String id,
-            @RequestBody @Valid UpdatePostRequest request
+            @RequestBody @Valid UpdatePostRequest request,
+            @RequestParam(required = false) Long ifSeqNo,
+            @RequestParam(required = false) Long ifPrimaryTerm,
+            @RefreshParam RefreshPolicy refreshPolicy
     ) {
         return postService.update(
                 id,
                 request.title,
-                request.content
+                request.content,
+                PartialDocumentUpdater.expected(ifSeqNo, ifPrimaryTerm),
+                refreshPolicy
         );
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable String id) {
-        postService.delete(id);
-        return ResponseEntity.noContent().build();
+        String commentDeletionTaskId = postService.delete(id);
+        return ResponseEntity.noContent()
+                .header("X-Comment-Deletion-Task", commentDeletionTaskId)
+                .build();
     }
 
 }
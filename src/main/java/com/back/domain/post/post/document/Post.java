@@ -2,24 +2,44 @@
 package com.back.domain.post.post.document;
 
 import com.back.global.BaseDocument;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
 
 @Document(indexName = "posts")
+// settings.json 의 korean 분석기는 comment-settings.json 에도 그대로 들어 있다. (settingPath 는 파일 하나만 받고 JSON 에는 주석을 달 수 없다)
+// 한쪽을 바꾸면 다른 쪽도 같이 바꿔야 하며 IndexSettingsTests 가 두 파일이 같은지 확인한다.
+@Setting(settingPath = "/elasticsearch/settings.json")
 @Data
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
 public class Post extends BaseDocument<String> {
-    @Field(type= FieldType.Text)
+    // title.autocomplete: 색인 시에만 edge n-gram 으로 쪼개고 검색어(입력 중인 접두어)는 n-gram 없이 분석한다.
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "korean"),
+            otherFields = @InnerField(suffix = "autocomplete", type = FieldType.Text,
+                    analyzer = "korean_autocomplete", searchAnalyzer = "korean_autocomplete_search")
+    )
     private String title;
-    @Field(type= FieldType.Text)
+    @Field(type= FieldType.Text, analyzer = "korean")
     private String content;
     @Field(type= FieldType.Keyword)
     private String author;
+    // PostCommentCounter 가 주기적으로 반영하므로 실제 댓글 수보다 잠시 늦을 수 있다.
+    @Field(type= FieldType.Long)
+    private long commentCount;
+    // 마지막 수정(PostService.update) 직전의 seq_no. 댓글 수 반영은 건드리지 않는다.
+    // 클라이언트가 본 seq_no 가 이 값보다 크면 그 뒤로 수정이 없었다는 뜻이다.
+    @JsonIgnore
+    @Field(type = FieldType.Long, index = false)
+    private Long editedFromSeqNo;
 
 
     public Post(String title, String content, String author){
@@ -0,0 +1,23 @@
+package com.back.domain.post.post.dto;
+
+import com.back.domain.post.post.document.Post;
+
+// _mget 결과 한 건. 요청한 ID 순서대로 반환되며 없는 문서는 found=false, 조회 실패는 error 가 채워진다.
+public record PostMultiGetItem(
+        String id,
+        boolean found,
+        Post post,
+        String error
+) {
+    public static PostMultiGetItem found(String id, Post post) {
+        return new PostMultiGetItem(id, true, post, null);
+    }
+
+    public static PostMultiGetItem missing(String id) {
+        return new PostMultiGetItem(id, false, null, null);
+    }
+
+    public static PostMultiGetItem failed(String id, String error) {
+        return new PostMultiGetItem(id, false, null, error);
+    }
+}
@@ -0,0 +1,31 @@
+package com.back.domain.post.post.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.elasticsearch.core.SearchHit;
+
+import com.back.domain.post.post.document.Post;
+
+// 검색 결과 화면용 Post. content 대신 highlights 에 title/content 의 일치 조각을 담는다.
+public record PostSearchHit(
+        String id,
+        String title,
+        String author,
+        long commentCount,
+        OffsetDateTime createdAt,
+        Map<String, List<String>> highlights
+) {
+    public static PostSearchHit from(SearchHit<Post> hit) {
+        Post post = hit.getContent();
+        return new PostSearchHit(
+                hit.getId(),
+                post.getTitle(),
+                post.getAuthor(),
+                post.getCommentCount(),
+                post.getCreatedAt(),
+                hit.getHighlightFields()
+        );
+    }
+}
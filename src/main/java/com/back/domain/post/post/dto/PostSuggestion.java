@@ -0,0 +1,13 @@
+package com.back.domain.post.post.dto;
+
+import com.back.domain.post.post.document.Post;
+
+// 자동완성 응답: _source 에서 title 만 가져오므로 나머지 필드는 담지 않는다.
+public record PostSuggestion(
+        String id,
+        String title
+) {
+    public static PostSuggestion from(Post post) {
+        return new PostSuggestion(post.getId(), post.getTitle());
+    }
+}
@@ -0,0 +1,33 @@
+package com.back.domain.post.post.dto;
+
+import java.time.OffsetDateTime;
+
+import org.springframework.data.elasticsearch.core.SearchHit;
+
+import com.back.domain.post.post.document.Post;
+import com.back.global.elasticsearch.Snippets;
+
+// 목록/검색 화면용 Post. content 대신 snippet(선택)만 담는다.
+public record PostSummary(
+        String id,
+        String title,
+        String author,
+        long commentCount,
+        OffsetDateTime createdAt,
+        String snippet
+) {
+    // _source includes 로 가져올 필드
+    public static final String[] SOURCE_FIELDS = {"title", "author", "commentCount", "createdAt"};
+
+    public static PostSummary from(SearchHit<Post> hit) {
+        Post post = hit.getContent();
+        return new PostSummary(
+                hit.getId(),
+                post.getTitle(),
+                post.getAuthor(),
+                post.getCommentCount(),
+                post.getCreatedAt(),
+                Snippets.from(hit, "content")
+        );
+    }
+}
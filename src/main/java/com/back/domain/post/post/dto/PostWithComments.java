@@ -0,0 +1,14 @@
+package com.back.domain.post.post.dto;
+
+import java.util.List;
+
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.post.document.Post;
+
+// 게시글 화면용: Post 와 첫 페이지 댓글을 한 번에 반환한다. commentTotal 은 해당 Post 의 전체 댓글 수
+public record PostWithComments(
+        Post post,
+        List<Comment> comments,
+        long commentTotal
+) {
+}
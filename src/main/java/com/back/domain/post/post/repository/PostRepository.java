@@ -3,20 +3,17 @@ package com.back.domain.post.post.repository;
 import com.back.domain.post.post.document.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.annotations.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 public interface PostRepository extends ElasticsearchRepository<Post,String> {
-    List<Post> findAll();
     Page<Post> findAll(Pageable pageable);
 
-    // 제목 검색
-    Page<Post> findByTitleContaining(String title, Pageable pageable);
+    // scroll 기반 Stream: 500 건씩 가져오며 close 시 scroll 컨텍스트를 정리한다.
+    @Query("{\"match_all\": {}}")
+    Stream<Post> streamAll();
 
-    // 내용 검색
-    Page<Post> findByContentContaining(String content, Pageable pageable);
-
-    // 제목 + 내용 검색
-    Page<Post> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
+    // 검색은 PostService.search 에서 nori 분석 필드에 match 쿼리로 처리한다. (*Containing 은 wildcard 쿼리가 된다)
 }
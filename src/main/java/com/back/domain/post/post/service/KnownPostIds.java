@@ -0,0 +1,38 @@
+package com.back.domain.post.post.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// 존재가 확인된 Post ID 캐시
+// 다른 인스턴스에서 삭제된 경우를 대비해 TTL 로 오래된 항목을 정리한다.
+@Component
+public class KnownPostIds {
+    private final Cache<String, Boolean> cache;
+
+    public KnownPostIds(
+            @Value("${custom.post.known-ids.max-size}") long maxSize,
+            @Value("${custom.post.known-ids.ttl}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean contains(String id) {
+        return cache.getIfPresent(id) != null;
+    }
+
+    public void add(String id) {
+        cache.put(id, Boolean.TRUE);
+    }
+
+    public void remove(String id) {
+        cache.invalidate(id);
+    }
+}
@@ -0,0 +1,116 @@
+package com.back.domain.post.post.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+import org.springframework.stereotype.Component;
+
+import com.back.domain.post.post.document.Post;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// findById 앞단의 로컬 캐시 (1차: Caffeine, 2차: ES GET)
+// 같은 ID 에 대해 (_primary_term, _seq_no) 가 더 큰 문서만 덮어쓰므로,
+// 수정 직전에 시작된 느린 조회가 수정 결과를 오래된 값으로 되돌리지 못한다.
+// 조회 도중 invalidate(삭제 등)가 끼어들면 그 조회 결과는 넣지 않는다. (putLoaded)
+// 세대 번호는 인스턴스 전체에 하나라서 다른 ID 의 invalidate 에도 진행 중인 조회 결과를 버리지만, 다음 조회에서 다시 채워진다.
+// 다른 인스턴스에서 수정된 경우는 TTL 만큼 늦게 반영될 수 있다.
+// 캐시된 Post 는 여러 요청이 공유하므로 꺼낸 쪽에서 수정하면 안 된다.
+@Component
+public class PostCache {
+    private final boolean enabled;
+    private final Cache<String, Post> cache;
+    // invalidate 할 때마다 올라간다. 조회 시작 시점 값과 다르면 조회 결과가 지워진 문서일 수 있다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostCache(
+            @Value("${custom.post.cache.enabled}") boolean enabled,
+            @Value("${custom.post.cache.max-size}") long maxSize,
+            @Value("${custom.post.cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(enabled ? maxSize : 0)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache_gets_total{cache="posts",result="hit|miss"} 등으로 노출된다.
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "posts");
+    }
+
+    public Post get(String id, Function<String, Post> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        Post cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long startedAt = generation();
+        Post loaded = loader.apply(id);
+        putLoaded(loaded, startedAt);
+        return loaded;
+    }
+
+    // 캐시 밖에서 조회를 시작하기 전에 받아두고 putLoaded 에 넘긴다.
+    public long generation() {
+        return generation.get();
+    }
+
+    public Post getIfPresent(String id) {
+        return enabled ? cache.getIfPresent(id) : null;
+    }
+
+    // 쓰기 결과처럼 그 자체로 최신인 Post 를 넣는다.
+    public void put(Post post) {
+        if (!enabled || post.getId() == null) {
+            return;
+        }
+        cache.asMap().merge(post.getId(), post, (current, candidate) ->
+                isNewer(candidate.getSeqNoPrimaryTerm(), current.getSeqNoPrimaryTerm()) ? candidate : current);
+    }
+
+    // 조회 결과를 넣는다. startedAt 이후 invalidate 가 있었으면 넣지 않는다.
+    // 세대 확인과 저장을 같은 key 의 compute 안에서 하므로, invalidate 가 세대를 올린 뒤 지우는 것과 엇갈려도
+    // 지워진 문서가 다시 들어가지 않는다.
+    public void putLoaded(Post post, long startedAt) {
+        if (!enabled || post.getId() == null) {
+            return;
+        }
+        cache.asMap().compute(post.getId(), (id, current) -> {
+            if (generation.get() != startedAt) {
+                return current;
+            }
+            return current == null || isNewer(post.getSeqNoPrimaryTerm(), current.getSeqNoPrimaryTerm()) ? post : current;
+        });
+    }
+
+    public void invalidate(String id) {
+        generation.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<String> ids) {
+        generation.incrementAndGet();
+        cache.invalidateAll(ids);
+    }
+
+    // seq_no 를 모르는 쪽은 항상 교체 대상으로 본다.
+    private static boolean isNewer(SeqNoPrimaryTerm candidate, SeqNoPrimaryTerm current) {
+        if (candidate == null || current == null) {
+            return true;
+        }
+        if (candidate.primaryTerm() != current.primaryTerm()) {
+            return candidate.primaryTerm() > current.primaryTerm();
+        }
+        return candidate.sequenceNumber() > current.sequenceNumber();
+    }
+}
@@ -0,0 +1,99 @@
+package com.back.domain.post.post.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.domain.post.post.document.Post;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Post.commentCount 증감을 메모리에 모아두었다가 주기적으로 bulk update 한다.
+// 인기 게시글에 댓글이 몰려도 게시글 문서 하나당 flush 주기마다 update 한 번만 발생한다.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PostCommentCounter {
+    private static final String INCREMENT_SCRIPT =
+            "ctx._source.commentCount = (ctx._source.commentCount == null ? 0 : ctx._source.commentCount) + params.delta";
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final PostCache postCache;
+    private final Map<String, Long> pendingDeltas = new ConcurrentHashMap<>();
+
+    public void increment(String postId, long delta) {
+        if (delta != 0) {
+            pendingDeltas.merge(postId, delta, Long::sum);
+        }
+    }
+
+    // 삭제된 게시글의 남은 증감분은 버린다.
+    public void discard(String postId) {
+        pendingDeltas.remove(postId);
+    }
+
+    // 스케줄러와 종료 시점/테스트의 직접 호출이 겹쳐도 한 번에 하나씩 반영되도록 synchronized
+    @Scheduled(fixedDelayString = "${custom.post.comment-count.flush-interval}")
+    public synchronized void flush() {
+        Map<String, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<UpdateQuery> queries = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> queries.add(
+                UpdateQuery.builder(postId)
+                        .withScript(INCREMENT_SCRIPT)
+                        .withLang("painless")
+                        .withParams(Map.of("delta", delta))
+                        .withRetryOnConflict(3)
+                        .build()
+        ));
+
+        try {
+            elasticsearchTemplate.bulkUpdate(queries, Post.class);
+        } catch (BulkFailureException e) {
+            e.getFailedDocuments().forEach((postId, failure) -> {
+                // 404 는 이미 삭제된 게시글이므로 버리고, 나머지는 다음 flush 에서 다시 시도한다.
+                if (failure.status() == null || failure.status() != 404) {
+                    log.warn("commentCount 반영 실패 postId: {}, {}", postId, failure.errorMessage());
+                    increment(postId, deltas.get(postId));
+                }
+            });
+        } catch (RuntimeException e) {
+            // 연결 오류, timeout, bulkhead 거절 등: 꺼낸 증감분을 모두 되돌려 다음 flush 에서 다시 보낸다.
+            log.warn("commentCount flush 실패, {} posts 다음 flush 에서 재시도: {}", deltas.size(), e.toString());
+            deltas.forEach(this::increment);
+            return;
+        }
+        // 캐시된 Post 의 commentCount 가 오래된 값이 되므로 비운다.
+        postCache.invalidateAll(deltas.keySet());
+        log.debug("commentCount flush: {} posts", deltas.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<String, Long> drain() {
+        Map<String, Long> drained = new HashMap<>();
+        for (String postId : pendingDeltas.keySet()) {
+            Long delta = pendingDeltas.remove(postId);
+            if (delta != null && delta != 0) {
+                drained.put(postId, delta);
+            }
+        }
+        return drained;
+    }
+}
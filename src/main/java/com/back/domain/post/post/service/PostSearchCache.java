@@ -0,0 +1,128 @@
+package com.back.domain.post.post.service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 인기 검색어 결과를 짧은 TTL 로 캐시한다.
+// 같은 키의 miss 가 동시에 들어오면 첫 요청만 ES 로 보내고 나머지는 그 결과를 기다린다. (single-flight)
+// Post 가 생성/수정/삭제되면 전체를 비운다. 비우기 전에 시작된 조회 결과는 캐시에 넣지 않는다.
+// commentCount 변경으로는 비우지 않으므로 검색 결과의 commentCount 는 TTL 만큼 늦을 수 있다.
+@Component
+public class PostSearchCache {
+    private final boolean enabled;
+    private final Cache<Key, Page<?>> cache;
+    private final ConcurrentHashMap<Key, CompletableFuture<Page<?>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter coalesced;
+
+    public PostSearchCache(
+            @Value("${custom.post.search-cache.enabled}") boolean enabled,
+            @Value("${custom.post.search-cache.max-size}") long maxSize,
+            @Value("${custom.post.search-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.search");
+        this.coalesced = Counter.builder("cache.coalesced")
+                .description("다른 요청의 조회 결과를 기다려 받은 요청 수")
+                .tag("cache", "post.search")
+                .register(meterRegistry);
+    }
+
+    // projection 은 응답 형태(Post 전체, 요약 등)를 구분한다. 같은 projection 은 항상 같은 타입을 돌려줘야 한다.
+    @SuppressWarnings("unchecked")
+    public <T> Page<T> get(
+            String keyword,
+            String searchType,
+            String projection,
+            int page,
+            int size,
+            Supplier<Page<T>> loader
+    ) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = Key.of(keyword, searchType, projection, page, size);
+        Page<?> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (Page<T>) cached;
+        }
+
+        CompletableFuture<Page<?>> mine = new CompletableFuture<>();
+        CompletableFuture<Page<?>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return (Page<T>) await(running);
+        }
+
+        long startedAt = generation.get();
+        try {
+            Page<T> result = loader.get();
+            putIfNotInvalidated(key, result, startedAt);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // invalidateAll 은 세대를 올린 뒤 비우므로, 넣은 뒤 세대를 다시 확인하면
+    // 확인과 put 사이에 끼어든 비우기도 놓치지 않는다. (그 경우 방금 넣은 값만 되돌린다)
+    private void putIfNotInvalidated(Key key, Page<?> result, long startedAt) {
+        if (generation.get() != startedAt) {
+            return;
+        }
+        cache.put(key, result);
+        if (generation.get() != startedAt) {
+            cache.asMap().remove(key, result);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static Page<?> await(CompletableFuture<Page<?>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 분석기가 소문자화하고 공백으로 나누므로 대소문자와 연속 공백 차이는 같은 검색이다.
+    record Key(String keyword, String searchType, String projection, int page, int size) {
+        static Key of(String keyword, String searchType, String projection, int page, int size) {
+            String normalized = keyword.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            return new Key(normalized, searchType, projection, page, size);
+        }
+    }
+}
@@ -1,65 +1,356 @@
 package com.back.domain.post.post.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
 import org.springframework.stereotype.Service;
 
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.comment.service.CommentService;
 import com.back.domain.post.post.document.Post;
+import com.back.domain.post.post.dto.PostMultiGetItem;
+import com.back.domain.post.post.dto.PostSearchHit;
+import com.back.domain.post.post.dto.PostSuggestion;
+import com.back.domain.post.post.dto.PostSummary;
+import com.back.domain.post.post.dto.PostWithComments;
 import com.back.domain.post.post.repository.PostRepository;
+import com.back.global.elasticsearch.Highlights;
+import com.back.global.elasticsearch.PartialDocumentUpdater;
+import com.back.global.elasticsearch.RefreshPolicies;
+import com.back.global.elasticsearch.Snippets;
+import com.back.global.exception.ConflictException;
 import com.back.global.exception.NotFoundException;
+import com.back.global.pagination.Cursor;
+import com.back.global.pagination.CursorPage;
+import com.back.global.pagination.SearchPages;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class PostService {
+    // 읽기와 _update 사이에 다른 쓰기가 끼어들면 다시 읽는 횟수
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
     private final PostRepository postRepository;
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final KnownPostIds knownPostIds;
+    private final PostCache postCache;
+    private final PostSearchCache postSearchCache;
+    private final PostCommentCounter postCommentCounter;
+    private final PartialDocumentUpdater partialDocumentUpdater;
+    private final RefreshPolicies refreshPolicies;
+    private final CommentService commentService;
 
     public long count() {
         return postRepository.count();
     }
 
     public Post create(String title, String content, String author) {
+        return create(title, content, author, RefreshPolicy.IMMEDIATE);
+    }
+
+    public Post create(String title, String content, String author, RefreshPolicy refreshPolicy) {
         Post post = new Post(title, content, author);
-        return postRepository.save(post);
+        Post saved = refreshPolicies.operations(refreshPolicy).save(post);
+        knownPostIds.add(saved.getId());
+        postCache.put(saved);
+        postSearchCache.invalidateAll();
+        return saved;
+    }
+
+    // NONE 으로 대량 쓰기를 마친 뒤 한 번만 refresh 할 때 사용
+    public void refresh() {
+        elasticsearchTemplate.indexOps(Post.class).refresh();
     }
 
-    public List<Post> findAll() {
-        return postRepository.findAll();
+    // 호출한 쪽에서 try-with-resources 로 닫아야 scroll 컨텍스트가 바로 정리된다.
+    public Stream<Post> streamAll() {
+        return postRepository.streamAll();
     }
 
     public Page<Post> findAll(Pageable pageable){
         return postRepository.findAll(pageable);
     }
 
+    public CursorPage<Post> findAll(String cursor, int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.matchAll(m -> m))
+                .withSort(Cursor.SORT)
+                .withSearchAfter(Cursor.searchAfter(cursor))
+                .withMaxResults(size)
+                .withTrackTotalHits(false)
+                .build();
+        return CursorPage.of(elasticsearchTemplate.search(query, Post.class), size);
+    }
+
+    // 같은 검색어가 반복되므로 PostSearchCache 를 거친다.
     public Page<Post> search(String keyword, String searchType, Pageable pageable) {
+        return postSearchCache.get(keyword, searchType, "full", pageable.getPageNumber(), pageable.getPageSize(),
+                () -> searchIndex(keyword, searchType, pageable));
+    }
+
+    // 목록 화면용: _source 는 PostSummary.SOURCE_FIELDS 만 받고 content 는 snippetLength 글자까지만 받는다.
+    public Page<PostSummary> searchSummaries(String keyword, String searchType, Pageable pageable, int snippetLength) {
+        return postSearchCache.get(keyword, searchType, "summary:" + snippetLength,
+                pageable.getPageNumber(), pageable.getPageSize(),
+                () -> summaries(searchQuery(keyword, searchType), pageable, snippetLength));
+    }
+
+    // 검색 결과 화면용: content 는 받지 않고 title 전체와 content 일치 조각만 highlight 로 받는다.
+    public Page<PostSearchHit> searchHighlighted(String keyword, String searchType, Pageable pageable) {
+        return postSearchCache.get(keyword, searchType, "highlight", pageable.getPageNumber(), pageable.getPageSize(),
+                () -> {
+                    Query query = searchQuery(keyword, searchType);
+                    NativeQuery nativeQuery = NativeQuery.builder()
+                            .withQuery(query == null ? Query.of(q -> q.matchAll(m -> m)) : query)
+                            .withSourceFilter(FetchSourceFilter.of(b -> b.withIncludes(PostSummary.SOURCE_FIELDS)))
+                            .withHighlightQuery(Highlights.query(Post.class, List.of("title"), List.of("content")))
+                            .withPageable(pageable)
+                            .build();
+                    return SearchPages.of(elasticsearchTemplate.search(nativeQuery, Post.class), pageable, PostSearchHit::from);
+                });
+    }
+
+    public Page<PostSummary> findAllSummaries(Pageable pageable, int snippetLength) {
+        return summaries(null, pageable, snippetLength);
+    }
+
+    private Page<Post> searchIndex(String keyword, String searchType, Pageable pageable) {
+        Query query = searchQuery(keyword, searchType);
+        if (query == null) {
+            return postRepository.findAll(pageable);
+        }
+        NativeQuery nativeQuery = NativeQuery.builder()
+                .withQuery(query)
+                .withPageable(pageable)
+                .build();
+        return SearchPages.of(elasticsearchTemplate.search(nativeQuery, Post.class), pageable);
+    }
+
+    private Page<PostSummary> summaries(Query query, Pageable pageable, int snippetLength) {
+        NativeQueryBuilder nativeQuery = NativeQuery.builder()
+                .withQuery(query == null ? Query.of(q -> q.matchAll(m -> m)) : query)
+                .withSourceFilter(FetchSourceFilter.of(b -> b.withIncludes(PostSummary.SOURCE_FIELDS)))
+                .withPageable(pageable);
+        if (snippetLength > 0) {
+            nativeQuery.withHighlightQuery(Snippets.query("content", snippetLength, Post.class));
+        }
+        return SearchPages.of(elasticsearchTemplate.search(nativeQuery.build(), Post.class), pageable, PostSummary::from);
+    }
+
+    // korean(nori) 분석기로 분석된 필드에 match 쿼리를 만든다. 알 수 없는 searchType 이면 null (전체 목록)
+    private static Query searchQuery(String keyword, String searchType) {
         return switch (searchType) {
-            case "title" -> postRepository.findByTitleContaining(keyword, pageable);
-            case "content" -> postRepository.findByContentContaining(keyword, pageable);
-            case "titleAndContent" -> postRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable);
-            default -> postRepository.findAll(pageable);
+            case "title" -> Query.of(q -> q.match(m -> m.field("title").query(keyword)));
+            case "content" -> Query.of(q -> q.match(m -> m.field("content").query(keyword)));
+            case "titleAndContent" -> Query.of(q -> q.multiMatch(m -> m.fields("title", "content").query(keyword)));
+            default -> null;
         };
     }
 
+    // 검색창 자동완성: title.autocomplete(edge n-gram) 에 match 하고 _source 는 title 만 가져온다.
+    public List<PostSuggestion> suggest(String prefix, int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.match(m -> m
+                        .field("title.autocomplete")
+                        .query(prefix)
+                        .operator(Operator.And)))
+                .withSourceFilter(FetchSourceFilter.of(b -> b.withIncludes("title")))
+                .withMaxResults(size)
+                .withTrackTotalHits(false)
+                .build();
+        return elasticsearchTemplate.search(query, Post.class).stream()
+                .map(SearchHit::getContent)
+                .map(PostSuggestion::from)
+                .toList();
+    }
+
     public Post findById(String id) {
-        return postRepository.findById(id).orElseThrow(()->new NotFoundException("Post not found with id: " + id));
+        Post post = postCache.get(id, key ->
+                postRepository.findById(key).orElseThrow(()->new NotFoundException("Post not found with id: " + key)));
+        knownPostIds.add(id);
+        return post;
+    }
+
+    // 게시글 화면용: Post 와 첫 commentSize 개 댓글을 ES 요청 한 번으로 가져온다.
+    // 캐시에 Post 가 있으면 댓글 검색만 보내고, 없으면 ids 검색과 댓글 검색을 _msearch 로 묶는다.
+    // Post 가 없으면 404 이므로 별도 존재 확인이 필요 없다.
+    // 검색은 get 과 달리 refresh 이후에만 보이므로 refresh=none 으로 막 만든 Post 는 찾지 못할 수 있다.
+    public PostWithComments findByIdWithComments(String id, int commentSize) {
+        NativeQuery commentQuery = CommentService.byPostIdQuery(id, PageRequest.of(0, commentSize));
+        long cacheGeneration = postCache.generation();
+        Post post = postCache.getIfPresent(id);
+        SearchHits<?> comments;
+        if (post != null) {
+            comments = elasticsearchTemplate.search(commentQuery, Comment.class);
+        } else {
+            NativeQuery postQuery = NativeQuery.builder()
+                    .withQuery(q -> q.ids(i -> i.values(id)))
+                    .withMaxResults(1)
+                    .withTrackTotalHits(false)
+                    .build();
+            List<SearchHits<?>> responses = elasticsearchTemplate.multiSearch(
+                    List.of(postQuery, commentQuery),
+                    List.of(Post.class, Comment.class)
+            );
+            SearchHits<?> postHits = responses.get(0);
+            if (!postHits.hasSearchHits()) {
+                throw new NotFoundException("Post not found with id: " + id);
+            }
+            post = (Post) postHits.getSearchHit(0).getContent();
+            postCache.putLoaded(post, cacheGeneration);
+            comments = responses.get(1);
+        }
+        knownPostIds.add(id);
+        return new PostWithComments(
+                post,
+                comments.getSearchHits().stream().map(hit -> (Comment) hit.getContent()).toList(),
+                comments.getTotalHits()
+        );
+    }
+
+    // ID 목록을 _mget 한 번으로 조회한다. fields 가 없으면 캐시에 있는 Post 는 그대로 쓰고 나머지만 조회한다.
+    // fields 가 있으면 _source 를 해당 필드로 제한하므로 캐시를 쓰지 않는다.
+    public List<PostMultiGetItem> findAllById(List<String> ids, List<String> fields) {
+        boolean filtered = fields != null && !fields.isEmpty();
+        long cacheGeneration = postCache.generation();
+        Map<String, PostMultiGetItem> resolved = new HashMap<>();
+        if (!filtered) {
+            for (String id : ids) {
+                Post cached = postCache.getIfPresent(id);
+                if (cached != null) {
+                    resolved.put(id, PostMultiGetItem.found(id, cached));
+                }
+            }
+        }
+
+        List<String> remaining = ids.stream()
+                .filter(id -> !resolved.containsKey(id))
+                .distinct()
+                .toList();
+        if (!remaining.isEmpty()) {
+            NativeQueryBuilder query = NativeQuery.builder().withIds(remaining);
+            if (filtered) {
+                query.withSourceFilter(FetchSourceFilter.of(b -> b.withIncludes(fields.toArray(String[]::new))));
+            }
+            List<MultiGetItem<Post>> items = elasticsearchTemplate.multiGet(query.build(), Post.class);
+            for (int i = 0; i < remaining.size(); i++) {
+                String id = remaining.get(i);
+                MultiGetItem<Post> item = items.get(i);
+                if (item.isFailed()) {
+                    resolved.put(id, PostMultiGetItem.failed(id, item.getFailure().getException() == null
+                            ? "failed" : item.getFailure().getException().getMessage()));
+                } else if (item.hasItem()) {
+                    if (!filtered) {
+                        postCache.putLoaded(item.getItem(), cacheGeneration);
+                    }
+                    resolved.put(id, PostMultiGetItem.found(id, item.getItem()));
+                } else {
+                    resolved.put(id, PostMultiGetItem.missing(id));
+                }
+            }
+        }
+
+        return ids.stream().map(resolved::get).toList();
+    }
+
+    // 문서 본문이 필요 없는 존재 확인용. 캐시 hit 이면 ES 요청 없이 통과한다.
+    public void verifyExists(String id) {
+        if (knownPostIds.contains(id)) {
+            return;
+        }
+        if (!elasticsearchTemplate.exists(id, Post.class)) {
+            throw new NotFoundException("Post not found with id: " + id);
+        }
+        knownPostIds.add(id);
     }
 
     public Post update(String id, String title, String content) {
-        Post post = findById(id);
-        if (title != null){
-            post.setTitle(title);
+        return update(id, title, content, null, RefreshPolicy.IMMEDIATE);
+    }
+
+    // 문서의 seq_no 는 PostCommentCounter 의 commentCount 반영(scripted _update)에도 올라가므로
+    // 클라이언트가 본 seq_no 를 그대로 if_seq_no 로 넘기면 댓글만 달렸는데도 409 가 난다.
+    // 그래서 expected 는 "그 뒤로 다른 수정이 있었는가"만 본다. (commentCount 는 충돌 판단에서 빠진다)
+    //   - 수정할 때마다 수정 직전 seq_no 를 editedFromSeqNo 에 남긴다.
+    //   - 클라이언트가 본 seq_no 가 editedFromSeqNo 이하이면 그 뒤에 수정이 있었으므로 409
+    //   - 실제 _update 는 방금 읽은 seq_no 로 건다. 그 사이 끼어든 수정/댓글 수 반영이 있으면 다시 읽어 판단한다.
+    // 캐시에 있으면 첫 시도는 캐시된 seq_no 로 보내므로 보통 round trip 한 번에 끝난다.
+    public Post update(String id, String title, String content, SeqNoPrimaryTerm expected, RefreshPolicy refreshPolicy) {
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            Post current = attempt == 0 ? postCache.getIfPresent(id) : null;
+            if (current == null || current.getSeqNoPrimaryTerm() == null) {
+                current = postRepository.findById(id).orElseThrow(() -> new NotFoundException("Post not found with id: " + id));
+            }
+            SeqNoPrimaryTerm read = current.getSeqNoPrimaryTerm();
+            if (expected != null && isEditedSince(current, expected)) {
+                throw new ConflictException("Post %s was modified concurrently".formatted(id));
+            }
+
+            Map<String, Object> changes = new HashMap<>();
+            if (title != null){
+                changes.put("title", title);
+            }
+            if (content != null){
+                changes.put("content", content);
+            }
+            changes.put("editedFromSeqNo", read.sequenceNumber());
+            Post updated;
+            try {
+                updated = partialDocumentUpdater.update(Post.class, id, changes, read, refreshPolicy);
+            } catch (ConflictException e) {
+                log.debug("Post {} 수정 중 seq_no 변경, 다시 읽음 (시도 {})", id, attempt + 1);
+                continue;
+            }
+            // _update 응답의 seq_no 가 캐시보다 크므로 그대로 교체된다.
+            postCache.put(updated);
+            postSearchCache.invalidateAll();
+            return updated;
         }
-        if (content != null){
-            post.setContent(content);
+        throw new ConflictException("Post %s was modified concurrently".formatted(id));
+    }
+
+    // 수정은 editedFromSeqNo 에서 바로 다음 버전을 만들므로 그 사이 seq_no 의 버전은 없다.
+    // expected 가 editedFromSeqNo 이하면 수정 전 버전을 본 것이고, 현재보다 크면 있을 수 없는 값이다.
+    private static boolean isEditedSince(Post current, SeqNoPrimaryTerm expected) {
+        long seqNo = expected.sequenceNumber();
+        if (seqNo > current.getSeqNoPrimaryTerm().sequenceNumber()) {
+            return true;
         }
-        return postRepository.save(post);
+        return current.getEditedFromSeqNo() != null && seqNo <= current.getEditedFromSeqNo();
     }
 
-    public void delete(String id) {
+    // 댓글 삭제 task ID 를 반환한다. (GET _tasks/{taskId} 로 진행 상황 확인)
+    public String delete(String id) {
         Post post = findById(id);
         postRepository.delete(post);
+        knownPostIds.remove(id);
+        postCache.invalidate(id);
+        postSearchCache.invalidateAll();
+        String taskId = commentService.deleteAllByPostId(id);
+        // write-behind flush 가 마지막으로 더한 증감분까지 버리도록 댓글 쪽 정리 뒤에 한다.
+        postCommentCounter.discard(id);
+        log.debug("Post {} 삭제, 댓글 삭제 task: {}", id, taskId);
+        return taskId;
     }
 }
@@ -0,0 +1,28 @@
+package com.back.domain.stats.author.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.back.domain.stats.author.dto.AuthorStats;
+import com.back.domain.stats.author.service.AuthorStatsService;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+public class AuthorStatsController {
+
+    private final AuthorStatsService authorStatsService;
+
+    @GetMapping("/authors")
+    public AuthorStats topAuthors(
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return authorStatsService.topAuthors(size);
+    }
+}
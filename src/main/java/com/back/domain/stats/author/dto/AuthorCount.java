@@ -0,0 +1,13 @@
+package com.back.domain.stats.author.dto;
+
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+
+// terms 집계 bucket 한 개. count 는 shard 별 상위 결과를 합친 값이라 근사치일 수 있다.
+public record AuthorCount(
+        String author,
+        long count
+) {
+    public static AuthorCount from(StringTermsBucket bucket) {
+        return new AuthorCount(bucket.key().stringValue(), bucket.docCount());
+    }
+}
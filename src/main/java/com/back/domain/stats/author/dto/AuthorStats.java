@@ -0,0 +1,10 @@
+package com.back.domain.stats.author.dto;
+
+import java.util.List;
+
+// 작성자별 Post 수 / Comment 수 상위 N 명 (count 내림차순)
+public record AuthorStats(
+        List<AuthorCount> posts,
+        List<AuthorCount> comments
+) {
+}
@@ -0,0 +1,75 @@
+package com.back.domain.stats.author.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Service;
+
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.post.document.Post;
+import com.back.domain.stats.author.dto.AuthorCount;
+import com.back.domain.stats.author.dto.AuthorStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 문서를 가져오지 않고 author(keyword) terms 집계만 받는다. (size=0)
+// posts 와 comments 집계는 _msearch 한 번으로 보내고, 결과는 size 별로 ttl 동안 캐시한다.
+// 같은 size 로 동시에 들어온 요청은 Caffeine 이 한 번만 집계하고 결과를 나눠 쓴다.
+@Service
+public class AuthorStatsService {
+    private static final String AGGREGATION = "authors";
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final Cache<Integer, AuthorStats> cache;
+
+    public AuthorStatsService(
+            ElasticsearchTemplate elasticsearchTemplate,
+            @Value("${custom.stats.authors.cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.elasticsearchTemplate = elasticsearchTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "stats.authors");
+    }
+
+    public AuthorStats topAuthors(int size) {
+        return cache.get(size, this::aggregate);
+    }
+
+    private AuthorStats aggregate(int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.matchAll(m -> m))
+                .withAggregation(AGGREGATION, Aggregation.of(a -> a.terms(t -> t.field("author").size(size))))
+                .withMaxResults(0)
+                .withTrackTotalHits(false)
+                .build();
+        List<SearchHits<?>> responses = elasticsearchTemplate.multiSearch(
+                List.of(query, query),
+                List.of(Post.class, Comment.class)
+        );
+        return new AuthorStats(buckets(responses.get(0)), buckets(responses.get(1)));
+    }
+
+    private static List<AuthorCount> buckets(SearchHits<?> searchHits) {
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) searchHits.getAggregations();
+        if (aggregations == null || aggregations.get(AGGREGATION) == null) {
+            return List.of();
+        }
+        return aggregations.get(AGGREGATION).aggregation().getAggregate().sterms().buckets().array().stream()
+                .map(AuthorCount::from)
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.back.domain.stats.timeline.controller;
+
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.back.domain.stats.timeline.dto.TimelineBucket;
+import com.back.domain.stats.timeline.service.TimelineService;
+import com.back.global.export.NdjsonExporter;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+public class TimelineController {
+
+    private final TimelineService timelineService;
+    private final NdjsonExporter ndjsonExporter;
+
+    // bucket 하나당 한 줄 {"date":...,"posts":N,"comments":M} 인 NDJSON 으로 내려준다.
+    // interval: minute|hour|day|week|month|quarter|year (또는 1m, 1h, 1d ...), timeZone: Asia/Seoul, +09:00 등
+    @GetMapping("/timeline")
+    public ResponseEntity<StreamingResponseBody> timeline(
+            @RequestParam(defaultValue = "day") String interval,
+            @RequestParam(defaultValue = "UTC") String timeZone,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String postId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to
+    ) {
+        // 집계는 응답 한 번에 끝나므로 미리 실행해서 잘못된 interval/timeZone 을 400 으로 돌려준다.
+        Stream<TimelineBucket> buckets = timelineService.timeline(interval, timeZone, author, postId, from, to);
+        return ndjsonExporter.export(() -> buckets);
+    }
+}
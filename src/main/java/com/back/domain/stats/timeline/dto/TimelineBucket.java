@@ -0,0 +1,9 @@
+package com.back.domain.stats.timeline.dto;
+
+// date_histogram bucket 한 개. date 는 요청한 timeZone 기준 bucket 시작 시각 (예: 2026-01-01T00:00:00+09:00)
+public record TimelineBucket(
+        String date,
+        long posts,
+        long comments
+) {
+}
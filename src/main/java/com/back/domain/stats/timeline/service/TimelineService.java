@@ -0,0 +1,188 @@
+package com.back.domain.stats.timeline.service;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Service;
+
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.post.document.Post;
+import com.back.domain.stats.timeline.dto.TimelineBucket;
+import com.back.global.exception.DomainException;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.aggregations.DateHistogramBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.FieldDateMath;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import lombok.RequiredArgsConstructor;
+
+// createdAt 에 date_histogram 집계를 걸어 Post/Comment 작성량을 시간 구간별로 센다. (size=0, 문서는 가져오지 않는다)
+// 두 집계는 _msearch 한 번으로 보내고 bucket 시작 시각 기준으로 합친다.
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+    private static final String AGGREGATION = "timeline";
+    private static final String KEY_FORMAT = "yyyy-MM-dd'T'HH:mm:ssXXX";
+    // minDocCount(0) 이라 빈 구간도 bucket 이 된다. ES 의 search.max_buckets(기본 65,536) 보다 한참 아래로 막는다.
+    private static final long MAX_BUCKETS = 10_000;
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+
+    // author 는 Post/Comment 양쪽, postId 는 해당 Post 와 그 댓글로 범위를 좁힌다.
+    // from/to 를 모두 주면 그 구간 전체를 빈 bucket 까지 채워서 반환한다.
+    // bucket 이 MAX_BUCKETS 를 넘을 수 있는 요청은 ES 에 보내지 않고 400 으로 거절한다.
+    public Stream<TimelineBucket> timeline(
+            String interval,
+            String timeZone,
+            String author,
+            String postId,
+            OffsetDateTime from,
+            OffsetDateTime to
+    ) {
+        CalendarInterval calendarInterval = calendarInterval(interval);
+        checkBucketCount(calendarInterval, from, to);
+        Aggregation histogram = histogram(calendarInterval, zoneId(timeZone), from, to);
+        NativeQuery postQuery = query(histogram)
+                .withQuery(filters(author, from, to, postId == null ? null : Query.of(q -> q.ids(i -> i.values(postId)))))
+                .build();
+        NativeQueryBuilder commentQuery = query(histogram)
+                .withQuery(filters(author, from, to, postId == null ? null : Query.of(q -> q.term(t -> t.field("postId").value(postId)))));
+        if (postId != null) {
+            commentQuery.withRoute(postId);
+        }
+
+        List<SearchHits<?>> responses = elasticsearchTemplate.multiSearch(
+                List.of(postQuery, commentQuery.build()),
+                List.of(Post.class, Comment.class)
+        );
+
+        // bucket key(epoch millis) 순서로 두 결과를 합친다. 한쪽에만 있는 구간은 다른 쪽을 0 으로 채운다.
+        Map<Long, long[]> counts = new TreeMap<>();
+        Map<Long, String> dates = new TreeMap<>();
+        for (int i = 0; i < responses.size(); i++) {
+            for (DateHistogramBucket bucket : buckets(responses.get(i))) {
+                counts.computeIfAbsent(bucket.key(), key -> new long[2])[i] = bucket.docCount();
+                dates.putIfAbsent(bucket.key(), bucket.keyAsString());
+            }
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new TimelineBucket(dates.get(entry.getKey()), entry.getValue()[0], entry.getValue()[1]));
+    }
+
+    private static NativeQueryBuilder query(Aggregation histogram) {
+        return NativeQuery.builder()
+                .withAggregation(AGGREGATION, histogram)
+                .withMaxResults(0)
+                .withTrackTotalHits(false);
+    }
+
+    private static Query filters(String author, OffsetDateTime from, OffsetDateTime to, Query scope) {
+        List<Query> filters = new ArrayList<>();
+        if (scope != null) {
+            filters.add(scope);
+        }
+        if (author != null) {
+            filters.add(Query.of(q -> q.term(t -> t.field("author").value(author))));
+        }
+        if (from != null || to != null) {
+            filters.add(Query.of(q -> q.range(r -> r.date(d -> {
+                d.field("createdAt").format("epoch_millis");
+                if (from != null) {
+                    d.gte(String.valueOf(from.toInstant().toEpochMilli()));
+                }
+                if (to != null) {
+                    d.lt(String.valueOf(to.toInstant().toEpochMilli()));
+                }
+                return d;
+            }))));
+        }
+        if (filters.isEmpty()) {
+            return Query.of(q -> q.matchAll(m -> m));
+        }
+        return Query.of(q -> q.bool(b -> b.filter(filters)));
+    }
+
+    private static Aggregation histogram(CalendarInterval interval, String timeZone, OffsetDateTime from, OffsetDateTime to) {
+        return Aggregation.of(a -> a.dateHistogram(h -> {
+            h.field("createdAt")
+                    .calendarInterval(interval)
+                    .timeZone(timeZone)
+                    .format(KEY_FORMAT)
+                    .minDocCount(0);
+            if (from != null && to != null) {
+                h.extendedBounds(b -> b
+                        .min(FieldDateMath.of(f -> f.value((double) from.toInstant().toEpochMilli())))
+                        .max(FieldDateMath.of(f -> f.value((double) to.toInstant().toEpochMilli() - 1))));
+            }
+            return h;
+        }));
+    }
+
+    private static List<DateHistogramBucket> buckets(SearchHits<?> searchHits) {
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) searchHits.getAggregations();
+        if (aggregations == null || aggregations.get(AGGREGATION) == null) {
+            return List.of();
+        }
+        return aggregations.get(AGGREGATION).aggregation().getAggregate().dateHistogram().buckets().array();
+    }
+
+    // 하루보다 짧은 interval 은 범위가 없으면 첫 문서부터 마지막 문서까지 bucket 이 생기므로 from/to 를 요구한다.
+    // from/to 가 있으면 구간 길이로 bucket 수를 어림한다. (월/분기/년은 평균 길이 기준)
+    private static void checkBucketCount(CalendarInterval interval, OffsetDateTime from, OffsetDateTime to) {
+        ChronoUnit unit = switch (interval) {
+            case Second -> ChronoUnit.SECONDS;
+            case Minute -> ChronoUnit.MINUTES;
+            case Hour -> ChronoUnit.HOURS;
+            case Day -> ChronoUnit.DAYS;
+            case Week -> ChronoUnit.WEEKS;
+            case Month, Quarter -> ChronoUnit.MONTHS;
+            case Year -> ChronoUnit.YEARS;
+        };
+        if (from == null || to == null) {
+            if (unit.getDuration().compareTo(ChronoUnit.DAYS.getDuration()) < 0) {
+                throw new DomainException("400", "from and to are required for interval: " + interval.jsonValue());
+            }
+            return;
+        }
+        if (!from.isBefore(to)) {
+            throw new DomainException("400", "from must be before to");
+        }
+        Duration bucket = interval == CalendarInterval.Quarter ? unit.getDuration().multipliedBy(3) : unit.getDuration();
+        long estimated = Duration.between(from, to).dividedBy(bucket) + 1;
+        if (estimated > MAX_BUCKETS) {
+            throw new DomainException("400", "Too many buckets (about %d, max %d): use a larger interval or a shorter range"
+                    .formatted(estimated, MAX_BUCKETS));
+        }
+    }
+
+    // "day" 같은 이름과 "1d" 같은 단위 표기를 모두 받는다.
+    private static CalendarInterval calendarInterval(String interval) {
+        return Arrays.stream(CalendarInterval.values())
+                .filter(value -> value.jsonValue().equals(interval) || Arrays.asList(value.aliases()).contains(interval))
+                .findFirst()
+                .orElseThrow(() -> new DomainException("400", "Unknown interval: " + interval));
+    }
+
+    private static String zoneId(String timeZone) {
+        try {
+            return ZoneId.of(timeZone).getId();
+        } catch (DateTimeException e) {
+            throw new DomainException("400", "Unknown time zone: " + timeZone);
+        }
+    }
+}
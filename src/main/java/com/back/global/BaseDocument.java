@@ -9,6 +9,7 @@ import org.springframework.data.domain.Persistable;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
 
 import java.time.OffsetDateTime;
 import java.util.Objects;
@@ -18,6 +19,7 @@ import java.util.Objects;
 public class BaseDocument<ID> implements Persistable<ID> {
 
     @Id
+    @Field(type = FieldType.Keyword)
     private ID id;
 
     @Field(
@@ -34,6 +36,9 @@ public class BaseDocument<ID> implements Persistable<ID> {
     @LastModifiedDate
     private OffsetDateTime lastModifiedAt;
 
+    // _source 에 저장되지 않고 조회 시 채워진다. 수정 요청의 ifSeqNo/ifPrimaryTerm 으로 되돌려 받는다.
+    private SeqNoPrimaryTerm seqNoPrimaryTerm;
+
     @Override
     public boolean isNew() {
         return id == null || (createdAt == null && lastModifiedAt == null);
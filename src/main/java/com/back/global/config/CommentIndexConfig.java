@@ -0,0 +1,18 @@
+package com.back.global.config;
+
+import com.back.domain.post.comment.service.CommentIndices;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// 인덱스 마이그레이션(IndexMigrationConfig) 직후, 샘플 데이터 생성 전에 comments 인덱스/template/alias 를 준비한다.
+@Configuration
+public class CommentIndexConfig {
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public ApplicationRunner commentIndexRunner(CommentIndices commentIndices) {
+        return args -> commentIndices.initialize();
+    }
+}
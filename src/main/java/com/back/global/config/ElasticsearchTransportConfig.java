@@ -0,0 +1,73 @@
+package com.back.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.back.global.elasticsearch.BulkheadElasticsearchTransport;
+import com.back.global.metrics.InstrumentedElasticsearchTransport;
+
+import co.elastic.clients.transport.ElasticsearchTransport;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// 모든 ES 요청이 지나가는 ElasticsearchTransport 를 감싼다.
+// 계측(바깥) -> bulkhead(선택) -> 실제 transport 순서라 bulkhead 에서 거절된 호출도 계측된다.
+@Configuration
+public class ElasticsearchTransportConfig {
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 설정값은 Environment 에서 직접 읽는다.
+    @Bean
+    public static ElasticsearchTransportPostProcessor elasticsearchTransportPostProcessor(
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new ElasticsearchTransportPostProcessor(environment, meterRegistry);
+    }
+
+    // MeterBinder 이기도 해서 registry 가 준비되면 만들어 둔 bulkhead 의 남은 permits 를 gauge 로 등록한다.
+    public static class ElasticsearchTransportPostProcessor implements BeanPostProcessor, MeterBinder {
+        private final Environment environment;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private volatile BulkheadElasticsearchTransport bulkhead;
+
+        ElasticsearchTransportPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.environment = environment;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof ElasticsearchTransport transport)
+                    || bean instanceof InstrumentedElasticsearchTransport) {
+                return bean;
+            }
+            if (environment.getProperty("custom.elasticsearch.bulkhead.enabled", Boolean.class, false)) {
+                bulkhead = new BulkheadElasticsearchTransport(
+                        transport,
+                        environment.getRequiredProperty("custom.elasticsearch.bulkhead.max-concurrent-calls", Integer.class),
+                        environment.getRequiredProperty("custom.elasticsearch.bulkhead.max-wait", Duration.class)
+                );
+                transport = bulkhead;
+            }
+            // getObject 를 여기서 부르면 transport 생성 시점에 MeterRegistry 와 그 의존 빈이 모두 초기화되므로 첫 호출까지 미룬다.
+            return new InstrumentedElasticsearchTransport(transport, meterRegistry::getObject);
+        }
+
+        // transport 가 아직 만들어지지 않았으면 NaN
+        @Override
+        public void bindTo(MeterRegistry registry) {
+            if (!environment.getProperty("custom.elasticsearch.bulkhead.enabled", Boolean.class, false)) {
+                return;
+            }
+            Gauge.builder("es.client.bulkhead.available", this,
+                            processor -> processor.bulkhead == null ? Double.NaN : processor.bulkhead.availablePermits())
+                    .description("Remaining Elasticsearch bulkhead permits")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.global.config;
+
+import com.back.global.elasticsearch.IndexMigrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+import java.util.List;
+
+// custom.elasticsearch.migrate-indices 에 지정된 인덱스를 샘플 데이터 생성 전에 마이그레이션한다.
+// 예) ES_MIGRATE_INDICES=posts,comments
+@Configuration
+@Slf4j
+public class IndexMigrationConfig {
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public ApplicationRunner indexMigrationRunner(
+            IndexMigrator indexMigrator,
+            SimpleElasticsearchMappingContext mappingContext,
+            @Value("${custom.elasticsearch.migrate-indices:}") List<String> indexNames
+    ) {
+        return args -> {
+            for (String indexName : indexNames) {
+                if (indexName.isBlank()) continue;
+                Class<?> type = mappingContext.getPersistentEntities().stream()
+                        .filter(entity -> entity.getIndexCoordinates().getIndexName().equals(indexName))
+                        .map(ElasticsearchPersistentEntity::getType)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("매핑된 문서가 없는 인덱스: " + indexName));
+                indexMigrator.migrate(type);
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.back.global.elasticsearch;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.back.global.exception.ServiceUnavailableException;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.Transport;
+import co.elastic.clients.transport.TransportOptions;
+
+// 모든 ES 요청(ElasticsearchTemplate, Repository, ElasticsearchClient)이 지나가는 transport 에
+// 동시 요청 수 제한을 건다. virtual thread 가 수천 개 몰려도 ES 로 나가는 요청은 permits 개까지만 허용된다.
+public class BulkheadElasticsearchTransport implements ElasticsearchTransport {
+    private final ElasticsearchTransport delegate;
+    private final Semaphore permits;
+    private final Duration maxWait;
+
+    public BulkheadElasticsearchTransport(ElasticsearchTransport delegate, int maxConcurrentCalls, Duration maxWait) {
+        this(delegate, new Semaphore(maxConcurrentCalls, true), maxWait);
+    }
+
+    private BulkheadElasticsearchTransport(ElasticsearchTransport delegate, Semaphore permits, Duration maxWait) {
+        this.delegate = delegate;
+        this.permits = permits;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            TransportOptions options
+    ) throws IOException {
+        acquire(endpoint);
+        try {
+            return delegate.performRequest(request, endpoint, options);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            TransportOptions options
+    ) {
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(rejected(endpoint));
+        }
+        try {
+            return delegate.performRequestAsync(request, endpoint, options)
+                    .whenComplete((response, error) -> permits.release());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public JsonpMapper jsonpMapper() {
+        return delegate.jsonpMapper();
+    }
+
+    @Override
+    public TransportOptions options() {
+        return delegate.options();
+    }
+
+    // 옵션만 바꾼 복사본도 같은 permits 를 공유한다.
+    @Override
+    public Transport withOptions(TransportOptions options) {
+        return new BulkheadElasticsearchTransport((ElasticsearchTransport) delegate.withOptions(options), permits, maxWait);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire(Endpoint<?, ?, ?> endpoint) {
+        try {
+            if (!permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw rejected(endpoint);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rejected(endpoint);
+        }
+    }
+
+    private ServiceUnavailableException rejected(Endpoint<?, ?, ?> endpoint) {
+        return new ServiceUnavailableException("Elasticsearch bulkhead is full: " + endpoint.id());
+    }
+}
@@ -0,0 +1,48 @@
+package com.back.global.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightFieldParameters;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+
+// 검색어가 일치한 위치를 <em> 태그로 감싼 조각(fragment)만 돌려받는다.
+// 본문 HTML 은 encoder=html 로 이스케이프되므로 프론트에서 그대로 렌더링해도 된다.
+public final class Highlights {
+    public static final String PRE_TAG = "<em>";
+    public static final String POST_TAG = "</em>";
+    public static final int FRAGMENT_SIZE = 150;
+    public static final int MAX_FRAGMENTS = 3;
+
+    private Highlights() {
+    }
+
+    // wholeFields: 제목처럼 짧은 필드는 조각내지 않고 필드 전체를 강조해서 받는다.
+    // fragmentFields: 본문처럼 긴 필드는 FRAGMENT_SIZE 글자 조각을 최대 MAX_FRAGMENTS 개 받고,
+    //                 일치하지 않으면 앞부분 FRAGMENT_SIZE 글자를 미리보기로 받는다.
+    public static HighlightQuery query(Class<?> type, List<String> wholeFields, List<String> fragmentFields) {
+        HighlightParameters parameters = HighlightParameters.builder()
+                .withPreTags(PRE_TAG)
+                .withPostTags(POST_TAG)
+                .withEncoder("html")
+                .build();
+
+        List<HighlightField> fields = new ArrayList<>();
+        for (String field : wholeFields) {
+            fields.add(new HighlightField(field, HighlightFieldParameters.builder()
+                    .withNumberOfFragments(0)
+                    .build()));
+        }
+        for (String field : fragmentFields) {
+            fields.add(new HighlightField(field, HighlightFieldParameters.builder()
+                    .withFragmentSize(FRAGMENT_SIZE)
+                    .withNumberOfFragments(MAX_FRAGMENTS)
+                    .withNoMatchSize(FRAGMENT_SIZE)
+                    .build()));
+        }
+        return new HighlightQuery(new Highlight(parameters, fields), type);
+    }
+}
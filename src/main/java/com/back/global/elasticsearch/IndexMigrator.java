@@ -0,0 +1,188 @@
+package com.back.global.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.annotations.Routing;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.reindex.ReindexRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+// 분석기/매핑이 바뀐 인덱스를 새 인덱스로 reindex 한 뒤 alias 로 교체한다.
+// 예) posts(구 매핑 인덱스) -> posts_20260101120000(신 매핑) + alias "posts"
+// reindex 도중 들어온 쓰기는 새 인덱스로 복사되지 않으므로 쓰기를 멈춘 상태에서 실행해야 한다.
+// @Routing 이 붙은 엔티티는 복사하면서 _routing 을 해당 필드 값으로 다시 채운다. (예: comments -> postId)
+// alias 를 옮기기 전에 실패하면(reindex 실패, migrate-timeout 초과 등) reindex task 를 취소하고 새 인덱스를 지운 뒤 예외를 다시 던진다.
+@Component
+@Slf4j
+public class IndexMigrator {
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    // tasks.get 한 번이 기다리는 시간. 넘기면 timeout 응답이 오고 다시 묻는다.
+    private static final String POLL_TIMEOUT = "1m";
+    // 연결 오류는 바로 돌아오므로 다시 묻기 전에 기다린다. 1초부터 두 배씩, 최대 30초
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final Duration migrateTimeout;
+
+    public IndexMigrator(
+            ElasticsearchTemplate elasticsearchTemplate,
+            @Value("${custom.elasticsearch.migrate-timeout}") Duration migrateTimeout
+    ) {
+        this.elasticsearchTemplate = elasticsearchTemplate;
+        this.migrateTimeout = migrateTimeout;
+    }
+
+    public String migrate(Class<?> type) {
+        IndexOperations currentOps = elasticsearchTemplate.indexOps(type);
+        String alias = currentOps.getIndexCoordinates().getIndexName();
+        String target = alias + "_" + LocalDateTime.now().format(SUFFIX);
+
+        // 엔티티의 @Setting / @Field 기준으로 새 인덱스 생성
+        elasticsearchTemplate.indexOps(IndexCoordinates.of(target))
+                .create(currentOps.createSettings(), currentOps.createMapping());
+
+        Set<String> sources = Set.of();
+        String taskId = null;
+        try {
+            if (currentOps.exists()) {
+                sources = resolveIndices(alias);
+                ReindexRequest.ReindexRequestBuilder request =
+                        ReindexRequest.builder(IndexCoordinates.of(alias), IndexCoordinates.of(target));
+                Routing routing = AnnotatedElementUtils.findMergedAnnotation(type, Routing.class);
+                if (routing != null) {
+                    request.withScript("ctx._routing = ctx._source." + routing.value(), "painless");
+                }
+                taskId = elasticsearchTemplate.submitReindex(request.build());
+                log.info("인덱스 마이그레이션 시작: {} -> {} (task: {})", alias, target, taskId);
+                awaitTask(taskId);
+            }
+            // updateAliases 는 원자적이라 실패하면 alias 는 그대로다.
+            moveAlias(alias, target, sources);
+        } catch (RuntimeException e) {
+            abandon(target, taskId, e);
+            throw e;
+        }
+
+        deleteSources(alias, sources);
+        log.info("인덱스 마이그레이션 완료: {} -> {}", sources, target);
+        return target;
+    }
+
+    // alias 면 가리키는 실제 인덱스들, 실제 인덱스면 자기 자신
+    private Set<String> resolveIndices(String name) {
+        return elasticsearchTemplate.execute(client ->
+                client.indices().get(g -> g.index(name)).indices().keySet()
+        );
+    }
+
+    // 완료될 때까지 tasks.get 을 반복한다. 한 번의 대기 timeout 이나 연결 오류는 다시 묻고, migrate-timeout 을 넘기면 실패한다.
+    private void awaitTask(String taskId) {
+        Instant deadline = Instant.now().plus(migrateTimeout);
+        Duration backoff = RETRY_BACKOFF;
+        while (true) {
+            if (Instant.now().isAfter(deadline)) {
+                throw new IllegalStateException("reindex 가 %s 안에 끝나지 않았습니다 (task: %s)".formatted(migrateTimeout, taskId));
+            }
+            GetTasksResponse response;
+            try {
+                response = elasticsearchTemplate.execute(client ->
+                        client.tasks().get(g -> g.taskId(taskId).waitForCompletion(true).timeout(t -> t.time(POLL_TIMEOUT)))
+                );
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) {
+                    throw e;
+                }
+                log.debug("reindex task {} 대기 중, {} 후 다시 확인: {}", taskId, backoff, e.getMessage());
+                sleep(backoff);
+                backoff = backoff.multipliedBy(2).compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff.multipliedBy(2);
+                continue;
+            }
+            backoff = RETRY_BACKOFF;
+            if (!response.completed()) {
+                continue;
+            }
+            if (response.error() != null) {
+                throw new IllegalStateException("reindex 실패: " + response.error().reason());
+            }
+            log.debug("reindex 결과: {}", response.response());
+            return;
+        }
+    }
+
+    // 인터럽트되면 마이그레이션을 멈추고 abandon 으로 정리되도록 예외로 바꾼다.
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("reindex 대기 중 인터럽트됨", e);
+        }
+    }
+
+    // 대기 timeout(408) 과 연결 오류는 task 가 아직 도는 중일 수 있으므로 다시 묻는다.
+    private static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException) {
+                return true;
+            }
+            if (cause instanceof ElasticsearchException es
+                    && (es.status() == 408 || "timeout_exception".equals(es.error().type()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // reindex 가 계속 돌면 지운 새 인덱스를 다시 만들어 버리므로 task 를 먼저 취소한다.
+    private void abandon(String target, String taskId, RuntimeException cause) {
+        log.error("인덱스 마이그레이션 실패, {} 를 정리합니다", target, cause);
+        try {
+            if (taskId != null) {
+                elasticsearchTemplate.execute(client -> client.tasks().cancel(c -> c.taskId(taskId)));
+            }
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+        try {
+            elasticsearchTemplate.execute(client ->
+                    client.indices().delete(d -> d.index(target).ignoreUnavailable(true)));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void moveAlias(String alias, String target, Set<String> sources) {
+        boolean concreteIndex = sources.contains(alias);
+
+        // 구 인덱스가 alias 이름을 그대로 쓰는 실제 인덱스라면 remove_index 로 같은 요청 안에서 삭제해야 alias 를 붙일 수 있다.
+        elasticsearchTemplate.execute(client -> client.indices().updateAliases(u -> {
+            if (concreteIndex) {
+                u.actions(a -> a.removeIndex(r -> r.index(alias)));
+            } else if (!sources.isEmpty()) {
+                u.actions(a -> a.remove(r -> r.indices(sources.stream().toList()).alias(alias)));
+            }
+            return u.actions(a -> a.add(ad -> ad.index(target).alias(alias).isWriteIndex(true)));
+        }));
+    }
+
+    // 실제 인덱스였던 구 인덱스는 moveAlias 의 remove_index 로 이미 지워졌다.
+    private void deleteSources(String alias, Set<String> sources) {
+        if (sources.contains(alias)) {
+            return;
+        }
+        sources.forEach(index -> elasticsearchTemplate.indexOps(IndexCoordinates.of(index)).delete());
+    }
+}
@@ -0,0 +1,107 @@
+package com.back.global.elasticsearch;
+
+import java.util.Map;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchDateConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+import org.springframework.stereotype.Component;
+
+import com.back.global.BaseDocument;
+import com.back.global.exception.ConflictException;
+import com.back.global.exception.DomainException;
+import com.back.global.exception.NotFoundException;
+
+import co.elastic.clients.elasticsearch.core.UpdateResponse;
+import lombok.RequiredArgsConstructor;
+
+// GET + 전체 문서 save 대신 변경된 필드와 lastModifiedAt 만 _update 로 보낸다.
+// 갱신된 _source 를 같은 응답으로 돌려받아 round trip 한 번에 끝난다.
+@Component
+@RequiredArgsConstructor
+public class PartialDocumentUpdater {
+    private static final ElasticsearchDateConverter DATE_CONVERTER = ElasticsearchDateConverter.of(DateFormat.date_time);
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final DateTimeProvider dateTimeProvider;
+
+    // 요청 파라미터 ifSeqNo/ifPrimaryTerm 은 둘 다 있거나 둘 다 없어야 한다.
+    public static SeqNoPrimaryTerm expected(Long ifSeqNo, Long ifPrimaryTerm) {
+        if (ifSeqNo == null && ifPrimaryTerm == null) {
+            return null;
+        }
+        if (ifSeqNo == null || ifPrimaryTerm == null) {
+            throw new DomainException("400", "ifSeqNo and ifPrimaryTerm must be given together");
+        }
+        return new SeqNoPrimaryTerm(ifSeqNo, ifPrimaryTerm);
+    }
+
+    public <T extends BaseDocument<String>> T update(
+            Class<T> type,
+            String id,
+            Map<String, Object> changes,
+            SeqNoPrimaryTerm expected,
+            RefreshPolicy refreshPolicy
+    ) {
+        return update(type, id, null, changes, expected, refreshPolicy);
+    }
+
+    // @Routing 이 있는 문서는 색인할 때와 같은 routing 을 넘겨야 찾을 수 있다.
+    public <T extends BaseDocument<String>> T update(
+            Class<T> type,
+            String id,
+            String routing,
+            Map<String, Object> changes,
+            SeqNoPrimaryTerm expected,
+            RefreshPolicy refreshPolicy
+    ) {
+        return update(type, elasticsearchTemplate.getIndexCoordinatesFor(type), id, routing, changes, expected, refreshPolicy);
+    }
+
+    // expected 가 있으면 if_seq_no/if_primary_term 으로 낙관적 잠금을 건다.
+    // index 는 실제 인덱스이거나 인덱스 하나만 가리키는 alias 여야 한다.
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public <T extends BaseDocument<String>> T update(
+            Class<T> type,
+            IndexCoordinates indexCoordinates,
+            String id,
+            String routing,
+            Map<String, Object> changes,
+            SeqNoPrimaryTerm expected,
+            RefreshPolicy refreshPolicy
+    ) {
+        Document document = Document.from(changes);
+        dateTimeProvider.getNow().ifPresent(now -> document.put("lastModifiedAt", DATE_CONVERTER.format(now)));
+        String index = indexCoordinates.getIndexName();
+
+        UpdateResponse<Map> response;
+        try {
+            response = elasticsearchTemplate.execute(client -> client.update(u -> u
+                    .index(index)
+                    .id(id)
+                    .routing(routing)
+                    .doc(document)
+                    .ifSeqNo(expected == null ? null : expected.sequenceNumber())
+                    .ifPrimaryTerm(expected == null ? null : expected.primaryTerm())
+                    .refresh(RefreshPolicies.toRefresh(refreshPolicy))
+                    .source(s -> s.fetch(true)), Map.class));
+        } catch (ResourceNotFoundException e) {
+            throw new NotFoundException("%s not found with id: %s".formatted(type.getSimpleName(), id));
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConflictException("%s %s was modified concurrently".formatted(type.getSimpleName(), id));
+        }
+
+        Document updated = Document.from(response.get().source());
+        updated.setId(id);
+        updated.setSeqNo(response.seqNo());
+        updated.setPrimaryTerm(response.primaryTerm());
+        return elasticsearchTemplate.getElasticsearchConverter().read(type, updated);
+    }
+}
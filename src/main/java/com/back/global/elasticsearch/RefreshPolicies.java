@@ -0,0 +1,50 @@
+package com.back.global.elasticsearch;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.stereotype.Component;
+
+import com.back.global.exception.DomainException;
+
+import co.elastic.clients.elasticsearch._types.Refresh;
+
+// 쓰기 요청마다 refresh 정책을 고를 수 있게 정책별 ElasticsearchOperations 를 미리 만들어 둔다.
+// NONE: refresh 안 함 (bulk/batch), WAIT_UNTIL: 다음 주기 refresh 까지 대기, IMMEDIATE: 즉시 refresh
+@Component
+public class RefreshPolicies {
+    private final Map<RefreshPolicy, ElasticsearchOperations> operations = new EnumMap<>(RefreshPolicy.class);
+
+    public RefreshPolicies(ElasticsearchTemplate elasticsearchTemplate) {
+        for (RefreshPolicy policy : RefreshPolicy.values()) {
+            operations.put(policy, elasticsearchTemplate.withRefreshPolicy(policy));
+        }
+    }
+
+    public ElasticsearchOperations operations(RefreshPolicy policy) {
+        return operations.get(policy);
+    }
+
+    // 저수준 클라이언트 요청(_update 등)에 넘길 refresh 파라미터
+    public static Refresh toRefresh(RefreshPolicy policy) {
+        return switch (policy) {
+            case NONE -> Refresh.False;
+            case WAIT_UNTIL -> Refresh.WaitFor;
+            case IMMEDIATE -> Refresh.True;
+        };
+    }
+
+    // 정책 이름(NONE, WAIT_UNTIL, IMMEDIATE)과 ES 의 refresh 값(false, wait_for, true)을 모두 받는다.
+    public static RefreshPolicy parse(String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "none", "false" -> RefreshPolicy.NONE;
+            case "wait_until", "wait_for" -> RefreshPolicy.WAIT_UNTIL;
+            case "immediate", "true", "" -> RefreshPolicy.IMMEDIATE;
+            default -> throw new DomainException("400", "Unknown refresh policy: " + value);
+        };
+    }
+}
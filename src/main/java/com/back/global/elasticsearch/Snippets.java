@@ -0,0 +1,35 @@
+package com.back.global.elasticsearch;
+
+import java.util.List;
+
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+
+// 본문을 _source 로 받지 않고 highlight 의 no_match_size 로 앞부분(또는 검색어 주변) 일부만 받는다.
+// 태그 없이 평문으로 받으므로 목록 화면의 미리보기 용도이다.
+public final class Snippets {
+    public static final int MAX_LENGTH = 500;
+
+    private Snippets() {
+    }
+
+    public static HighlightQuery query(String field, int length, Class<?> type) {
+        int size = Math.min(length, MAX_LENGTH);
+        HighlightParameters parameters = HighlightParameters.builder()
+                .withPreTags("")
+                .withPostTags("")
+                .withFragmentSize(size)
+                .withNumberOfFragments(1)
+                .withNoMatchSize(size)
+                .build();
+        return new HighlightQuery(new Highlight(parameters, List.of(new HighlightField(field))), type);
+    }
+
+    public static String from(SearchHit<?> hit, String field) {
+        List<String> fragments = hit.getHighlightField(field);
+        return fragments.isEmpty() ? null : fragments.getFirst();
+    }
+}
@@ -0,0 +1,7 @@
+package com.back.global.exception;
+
+public class ConflictException extends DomainException {
+    public ConflictException(String message) {
+        super("409", message);
+    }
+}
@@ -31,4 +31,37 @@ public class GlobalExceptionHandler {
                 .status(404)
                 .body(errorResponse);
     }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException e){
+        ErrorResponse errorResponse = new ErrorResponse(
+                e.getMessage(),
+                e.resultCode
+        );
+        return ResponseEntity
+                .status(409)
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e){
+        ErrorResponse errorResponse = new ErrorResponse(
+                e.getMessage(),
+                e.resultCode
+        );
+        return ResponseEntity
+                .status(503)
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e){
+        ErrorResponse errorResponse = new ErrorResponse(
+                e.getMessage(),
+                e.resultCode
+        );
+        return ResponseEntity
+                .status(429)
+                .body(errorResponse);
+    }
 }
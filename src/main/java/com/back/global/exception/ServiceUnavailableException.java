@@ -0,0 +1,7 @@
+package com.back.global.exception;
+
+public class ServiceUnavailableException extends DomainException {
+    public ServiceUnavailableException(String message) {
+        super("503", message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.back.global.exception;
+
+public class TooManyRequestsException extends DomainException {
+    public TooManyRequestsException(String message) {
+        super("429", message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.back.global.export;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// scroll 기반 Stream 을 한 줄에 문서 하나씩 NDJSON 으로 흘려보낸다.
+// 한 번에 scroll 한 배치만 메모리에 올라오므로 인덱스 크기와 무관하게 힙 사용량이 일정하다.
+@Component
+@RequiredArgsConstructor
+public class NdjsonExporter {
+    private static final byte[] NEW_LINE = {'\n'};
+    // 이 건수마다 flush 해서 클라이언트가 바로 받아볼 수 있게 한다.
+    private static final int FLUSH_EVERY = 1000;
+
+    private final ObjectMapper objectMapper;
+
+    // Stream 은 응답을 쓰는 스레드에서 열고 닫아야 하므로 Supplier 로 받는다.
+    public <T> ResponseEntity<StreamingResponseBody> export(Supplier<Stream<T>> documents) {
+        StreamingResponseBody body = out -> {
+            try (Stream<T> stream = documents.get()) {
+                write(stream.iterator(), out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private <T> void write(Iterator<T> documents, OutputStream out) throws IOException {
+        int written = 0;
+        while (documents.hasNext()) {
+            out.write(objectMapper.writeValueAsBytes(documents.next()));
+            out.write(NEW_LINE);
+            if (++written % FLUSH_EVERY == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+}
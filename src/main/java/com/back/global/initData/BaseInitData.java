@@ -1,5 +1,6 @@
 package com.back.global.initData;
 
+import com.back.domain.post.comment.document.Comment;
 import com.back.domain.post.comment.service.CommentService;
 import com.back.domain.post.post.document.Post;
 import com.back.domain.post.post.service.PostService;
@@ -8,6 +9,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+
+import java.util.stream.Stream;
 
 @Configuration
 @Slf4j
@@ -41,42 +45,50 @@ public class BaseInitData {
                 String title = "Sample Post Title " + i;
                 String content = "This is the content of sample post number " + i + ".";
                 String author = "Author" + i;
-                Post post = postService.create(title, content, author);
+                Post post = postService.create(title, content, author, RefreshPolicy.NONE);
                 log.debug("Created Post: {}", post);
             }
+            // 문서마다 refresh 하지 않고 마지막에 한 번만
+            postService.refresh();
         }
     }
 
     private void work2(){
         log.debug("기존 Post 전체 조회");
-        for (Post post : postService.findAll()) {
-            log.debug("Existing Post: {}", post);
+        try (Stream<Post> posts = postService.streamAll()) {
+            posts.forEach(post -> log.debug("Existing Post: {}", post));
         }
     }
 
     private void work3(){
         log.debug("Post 단건 조회");
-        for (Post post : postService.findAll()) {
-            Post fetchedPost = postService.findById(post.getId());
-            log.debug("조회된 Post: {}", fetchedPost);
+        try (Stream<Post> posts = postService.streamAll()) {
+            posts.forEach(post -> {
+                Post fetchedPost = postService.findById(post.getId());
+                log.debug("조회된 Post: {}", fetchedPost);
+            });
         }
     }
 
     private void work4(){
         log.debug("Post 단건 수정");
-        for (Post post : postService.findAll()) {
-            String newTitle = post.getTitle() + " [Updated]";
-            String newContent = post.getContent() + " This content has been updated.";
-            Post updatedPost = postService.update(post.getId(), newTitle, newContent);
-            log.debug("Updated Post: {}", updatedPost);
+        try (Stream<Post> posts = postService.streamAll()) {
+            posts.forEach(post -> {
+                String newTitle = post.getTitle() + " [Updated]";
+                String newContent = post.getContent() + " This content has been updated.";
+                Post updatedPost = postService.update(post.getId(), newTitle, newContent);
+                log.debug("Updated Post: {}", updatedPost);
+            });
         }
     }
 
     private void work5(){
         log.debug("Post 삭제");
-        for (Post post : postService.findAll()) {
-            postService.delete(post.getId());
-            log.debug("Deleted Post: {}", post.getId());
+        try (Stream<Post> posts = postService.streamAll()) {
+            posts.forEach(post -> {
+                postService.delete(post.getId());
+                log.debug("Deleted Post: {}", post.getId());
+            });
         }
         log.debug("삭제 후 Post 개수: {}", postService.count());
     }
@@ -86,27 +98,31 @@ public class BaseInitData {
         if (commentService.count() == 0) {
             log.debug("샘플 Comment 데이터 생성");
             for (int i = 1; i <= 5; i++) {
-                Post post = postService.create("Post for Comment " + i, "Content for post " + i, "Author" + i);
+                Post post = postService.create("Post for Comment " + i, "Content for post " + i, "Author" + i, RefreshPolicy.NONE);
                 String content = "This is a comment number " + i + " for post " + post.getId();
                 String author = "Commenter" + i;
-                var comment = commentService.create(post, content, author);
+                var comment = commentService.create(post.getId(), content, author, RefreshPolicy.NONE);
                 log.debug("Created Comment: {}", comment);
             }
+            postService.refresh();
+            commentService.refresh();
         }
     }
 
     private void work7(){
         log.debug("기존 Comment 전체 조회");
-        for (var comment : commentService.findAll()) {
-            log.debug("Existing Comment: {}", comment);
+        try (Stream<Comment> comments = commentService.streamAll()) {
+            comments.forEach(comment -> log.debug("Existing Comment: {}", comment));
         }
     }
 
     private void work8() {
         log.debug("Comment 단건 조회");
-        for (var comment : commentService.findAll()) {
-            var fetchedComment = commentService.findById(comment.getId());
-            log.debug("조회된 Comment: {}", fetchedComment);
+        try (Stream<Comment> comments = commentService.streamAll()) {
+            comments.forEach(comment -> {
+                var fetchedComment = commentService.findById(comment.getPostId(), comment.getId());
+                log.debug("조회된 Comment: {}", fetchedComment);
+            });
         }
     }
 
@@ -114,34 +130,43 @@ public class BaseInitData {
         log.debug("Post 당 Comment 조회");
 
         for (int i = 1; i <= 5; i++) {
-            Post post = postService.create("Post for Comment " + i, "Content for post " + i, "Author" + i);
+            Post post = postService.create("Post for Comment " + i, "Content for post " + i, "Author" + i, RefreshPolicy.NONE);
             String content = "This is a comment number " + i + " for post " + post.getId();
             String author = "Commenter" + i;
-            var comment = commentService.create(post, content, author);
+            var comment = commentService.create(post.getId(), content, author, RefreshPolicy.NONE);
             log.debug("Created Comment: {}", comment);
         }
-
-        for (Post post : postService.findAll()) {
-            var comments = commentService.findByPostId(post.getId());
-            log.debug("Post ID: {} 에 대한 Comments: {}", post.getId(), comments);
+        postService.refresh();
+        commentService.refresh();
+
+        try (Stream<Post> posts = postService.streamAll()) {
+            posts.forEach(post -> {
+                try (Stream<Comment> comments = commentService.streamByPostId(post.getId())) {
+                    comments.forEach(comment -> log.debug("Post ID: {} 에 대한 Comment: {}", post.getId(), comment));
+                }
+            });
         }
         log.debug("Comment 조회 완료");
     }
 
     private void work10(){
         log.debug("Comment 수정");
-        for (var comment : commentService.findAll()) {
-            String newContent = comment.getContent() + " [Edited]";
-            var updatedComment = commentService.update(comment.getId(), newContent);
-            log.debug("Updated Comment: {}", updatedComment);
+        try (Stream<Comment> comments = commentService.streamAll()) {
+            comments.forEach(comment -> {
+                String newContent = comment.getContent() + " [Edited]";
+                var updatedComment = commentService.update(comment.getPostId(), comment.getId(), newContent);
+                log.debug("Updated Comment: {}", updatedComment);
+            });
         }
     }
 
     private void work11(){
         log.debug("Comment 삭제");
-        for (var comment : commentService.findAll()) {
-            commentService.delete(comment);
-            log.debug("Deleted Comment with ID: {}", comment.getId());
+        try (Stream<Comment> comments = commentService.streamAll()) {
+            comments.forEach(comment -> {
+                commentService.delete(comment);
+                log.debug("Deleted Comment with ID: {}", comment.getId());
+            });
         }
         log.debug("삭제 후 남은 Comment 개수: {}", commentService.count());
     }
@@ -0,0 +1,27 @@
+package com.back.global.metrics;
+
+// HTTP 요청 하나가 처리되는 동안 발생한 ES 호출 수.
+// EsCallsPerRequestFilter 가 요청 시작 시 열고 끝날 때 닫는다.
+public final class EsCallCounter {
+    private static final ThreadLocal<int[]> CALLS = new ThreadLocal<>();
+
+    private EsCallCounter() {
+    }
+
+    static void open() {
+        CALLS.set(new int[1]);
+    }
+
+    static int close() {
+        int[] calls = CALLS.get();
+        CALLS.remove();
+        return calls == null ? 0 : calls[0];
+    }
+
+    public static void increment() {
+        int[] calls = CALLS.get();
+        if (calls != null) {
+            calls[0]++;
+        }
+    }
+}
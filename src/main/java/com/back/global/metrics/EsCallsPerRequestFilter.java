@@ -0,0 +1,45 @@
+package com.back.global.metrics;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// 요청별 ES 호출 수를 uri 패턴 단위로 기록한다.
+// 같은 요청에서 게시글 확인 + 댓글 조회처럼 여러 번 호출하는 N+1 패턴이 대시보드에 드러난다.
+@Component
+@RequiredArgsConstructor
+public class EsCallsPerRequestFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        EsCallCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int calls = EsCallCounter.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.requests.es.calls")
+                    .description("Elasticsearch calls per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(calls);
+        }
+    }
+}
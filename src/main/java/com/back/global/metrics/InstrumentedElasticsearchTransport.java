@@ -0,0 +1,98 @@
+package com.back.global.metrics;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.Transport;
+import co.elastic.clients.transport.TransportOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// ES 호출마다 endpoint(search, get, bulk ...) 별 round trip 시간을 기록하고 요청별 호출 수를 센다.
+// MeterRegistry 는 첫 호출 때 꺼낸다. transport 를 감싸는 BeanPostProcessor 가 registry 를 일찍 만들지 않게 하기 위해서다.
+public class InstrumentedElasticsearchTransport implements ElasticsearchTransport {
+    private final ElasticsearchTransport delegate;
+    private final Supplier<MeterRegistry> meterRegistrySupplier;
+    private volatile MeterRegistry meterRegistry;
+
+    public InstrumentedElasticsearchTransport(ElasticsearchTransport delegate, Supplier<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistrySupplier = meterRegistry;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            TransportOptions options
+    ) throws IOException {
+        EsCallCounter.increment();
+        Timer.Sample sample = Timer.start(meterRegistry());
+        String outcome = "success";
+        try {
+            return delegate.performRequest(request, endpoint, options);
+        } catch (IOException | RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timer(endpoint, outcome));
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            TransportOptions options
+    ) {
+        EsCallCounter.increment();
+        Timer.Sample sample = Timer.start(meterRegistry());
+        return delegate.performRequestAsync(request, endpoint, options)
+                .whenComplete((response, error) -> sample.stop(
+                        timer(endpoint, error == null ? "success" : error.getClass().getSimpleName())
+                ));
+    }
+
+    @Override
+    public JsonpMapper jsonpMapper() {
+        return delegate.jsonpMapper();
+    }
+
+    @Override
+    public TransportOptions options() {
+        return delegate.options();
+    }
+
+    @Override
+    public Transport withOptions(TransportOptions options) {
+        return new InstrumentedElasticsearchTransport((ElasticsearchTransport) delegate.withOptions(options), this::meterRegistry);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // 여러 스레드가 동시에 꺼내도 같은 싱글톤 빈을 받으므로 잠그지 않는다.
+    private MeterRegistry meterRegistry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistrySupplier.get();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private Timer timer(Endpoint<?, ?, ?> endpoint, String outcome) {
+        return Timer.builder("es.client.requests")
+                .description("Elasticsearch round trips")
+                .tag("endpoint", endpoint.id())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry());
+    }
+}
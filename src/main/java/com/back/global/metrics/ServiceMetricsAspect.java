@@ -0,0 +1,61 @@
+package com.back.global.metrics;
+
+import java.util.Set;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+// Service / Repository 메서드별 실행 시간. search 메서드는 searchType 태그를 붙인다.
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+    // 사용자 입력이 그대로 태그가 되지 않도록 알려진 값만 남긴다.
+    private static final Set<String> KNOWN_SEARCH_TYPES = Set.of(
+            "title", "content", "titleAndContent", "author", "contentAndAuthor"
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.back.domain..service.*Service.*(..)) || bean(*Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("app.method")
+                    .description("Service and repository method latency")
+                    .tag("class", signature.getDeclaringType().getSimpleName())
+                    .tag("method", signature.getName())
+                    .tag("searchType", searchType(signature, joinPoint.getArgs()))
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private String searchType(MethodSignature signature, Object[] args) {
+        String[] parameterNames = signature.getParameterNames();
+        if (parameterNames == null) {
+            return "none";
+        }
+        for (int i = 0; i < parameterNames.length; i++) {
+            if ("searchType".equals(parameterNames[i])) {
+                return KNOWN_SEARCH_TYPES.contains(args[i]) ? (String) args[i] : "other";
+            }
+        }
+        return "none";
+    }
+}
@@ -0,0 +1,53 @@
+package com.back.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import com.back.global.exception.DomainException;
+
+// search_after 에 그대로 넘길 정렬값 (createdAt epoch millis + id tiebreaker)
+public record Cursor(
+        long createdAt,
+        String id
+) {
+    public static final Sort SORT = Sort.by(
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id")
+    );
+
+    private static final String SEPARATOR = "|";
+
+    public static Cursor from(List<Object> sortValues) {
+        return new Cursor(((Number) sortValues.get(0)).longValue(), String.valueOf(sortValues.get(1)));
+    }
+
+    // 첫 페이지 요청이면 null
+    public static List<Object> searchAfter(String encoded) {
+        return encoded == null || encoded.isBlank() ? null : decode(encoded).toSearchAfter();
+    }
+
+    public static Cursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            return new Cursor(
+                    Long.parseLong(raw.substring(0, separatorIndex)),
+                    raw.substring(separatorIndex + 1)
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DomainException("400", "Invalid cursor: " + encoded);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public List<Object> toSearchAfter() {
+        return List.of(createdAt, id);
+    }
+}
@@ -0,0 +1,25 @@
+package com.back.global.pagination;
+
+import java.util.List;
+
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+// total hits 를 세지 않는 무한 스크롤용 페이지
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static <T> CursorPage<T> of(SearchHits<T> searchHits, int size) {
+        List<SearchHit<T>> hits = searchHits.getSearchHits();
+        List<T> content = hits.stream().map(SearchHit::getContent).toList();
+        // size 보다 적게 왔으면(0 건 포함) 마지막 페이지다.
+        if (hits.isEmpty() || hits.size() < size) {
+            return new CursorPage<>(content, size, false, null);
+        }
+        String nextCursor = Cursor.from(hits.getLast().getSortValues()).encode();
+        return new CursorPage<>(content, size, true, nextCursor);
+    }
+}
@@ -0,0 +1,28 @@
+package com.back.global.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import java.util.function.Function;
+
+// NativeQuery 검색 결과를 Repository 메서드와 같은 Page 형태로 변환
+public final class SearchPages {
+    private SearchPages() {
+    }
+
+    public static <T> Page<T> of(SearchHits<T> searchHits, Pageable pageable) {
+        return of(searchHits, pageable, SearchHit::getContent);
+    }
+
+    // highlight 등 hit 메타데이터가 필요한 DTO 로 변환할 때
+    public static <T, R> Page<R> of(SearchHits<T> searchHits, Pageable pageable, Function<SearchHit<T>, R> mapper) {
+        return new PageImpl<>(
+                searchHits.getSearchHits().stream().map(mapper).toList(),
+                pageable,
+                searchHits.getTotalHits()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.back.global.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+
+// 컨트롤러의 RefreshPolicy 파라미터를 ?refresh= 또는 X-Refresh-Policy 헤더에서 채운다.
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RefreshParam {
+    RefreshPolicy defaultValue() default RefreshPolicy.IMMEDIATE;
+}
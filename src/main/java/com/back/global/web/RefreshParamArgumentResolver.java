@@ -0,0 +1,39 @@
+package com.back.global.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.back.global.elasticsearch.RefreshPolicies;
+
+// 쿼리 파라미터가 헤더보다 우선하고, 둘 다 없으면 @RefreshParam 의 기본값을 쓴다.
+public class RefreshParamArgumentResolver implements HandlerMethodArgumentResolver {
+    public static final String PARAMETER_NAME = "refresh";
+    public static final String HEADER_NAME = "X-Refresh-Policy";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(RefreshParam.class)
+                && parameter.getParameterType() == RefreshPolicy.class;
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        String value = webRequest.getParameter(PARAMETER_NAME);
+        if (value == null) {
+            value = webRequest.getHeader(HEADER_NAME);
+        }
+        if (value == null) {
+            return parameter.getParameterAnnotation(RefreshParam.class).defaultValue();
+        }
+        return RefreshPolicies.parse(value);
+    }
+}
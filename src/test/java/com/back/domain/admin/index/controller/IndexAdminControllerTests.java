@@ -0,0 +1,71 @@
+package com.back.domain.admin.index.controller;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.BaseTest;
+
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureMockMvc
+public class IndexAdminControllerTests extends BaseTest {
+    @Autowired
+    private MockMvc mockMvc;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("PUT /api/v1/admin/indices/{index}/refresh-interval - 성공")
+    void t1() throws Exception {
+        mockMvc.perform(
+            put("/api/v1/admin/indices/{index}/refresh-interval", "posts")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsBytes(Map.of("refreshInterval", "-1")))
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].refreshInterval").value("-1"));
+
+        // 다른 테스트에 영향이 없도록 되돌린다.
+        mockMvc.perform(
+            put("/api/v1/admin/indices/{index}/refresh-interval", "posts")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsBytes(Map.of("refreshInterval", "1s")))
+        ).andExpect(status().isOk());
+
+        mockMvc.perform(
+            get("/api/v1/admin/indices/{index}/refresh-interval", "posts")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].refreshInterval").value("1s"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/admin/indices/{index}/refresh-interval - 실패 (매핑되지 않은 인덱스)")
+    void t2() throws Exception {
+        mockMvc.perform(
+            put("/api/v1/admin/indices/{index}/refresh-interval", "unknown-index")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsBytes(Map.of("refreshInterval", "-1")))
+        ).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/admin/indices/{index}/refresh-interval - 실패 (잘못된 값)")
+    void t3() throws Exception {
+        mockMvc.perform(
+            put("/api/v1/admin/indices/{index}/refresh-interval", "posts")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsBytes(Map.of("refreshInterval", "fast")))
+        ).andExpect(status().isBadRequest());
+    }
+}
@@ -1,5 +1,6 @@
 package com.back.domain.post.comment.controller;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
@@ -8,17 +9,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import com.back.BaseTest;
 import com.back.domain.post.comment.document.Comment;
 import com.back.domain.post.post.document.Post;
+import com.back.domain.post.post.service.PostCommentCounter;
 
 import tools.jackson.databind.ObjectMapper;
 
@@ -28,6 +35,8 @@ import tools.jackson.databind.ObjectMapper;
 public class CommentControllerTests extends BaseTest {
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private PostCommentCounter postCommentCounter;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private Post createTestPost() throws Exception {
@@ -375,4 +384,261 @@ public class CommentControllerTests extends BaseTest {
             .andExpect(jsonPath("$.content").isArray())
             .andExpect(jsonPath("$.content[0].content").value("ContentAndAuthorSearchTest"));
     }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/{postId}/comments/_bulk - 성공")
+    void t16() throws Exception {
+        Post post = createTestPost();
+
+        mockMvc.perform(
+            post("/api/v1/posts/{postId}/comments/_bulk", post.getId())
+                .param("refresh", "IMMEDIATE")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        Map.of(
+                            "comments", List.of(
+                                Map.of("content", "Bulk Content 1", "author", "Bulk Author"),
+                                Map.of("content", "Bulk Content 2", "author", "Bulk Author"),
+                                Map.of("content", "Bulk Content 3", "author", "Bulk Author")
+                            )
+                        )
+                    )
+                )
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(3))
+            .andExpect(jsonPath("$.succeeded").value(3))
+            .andExpect(jsonPath("$.failed").value(0))
+            .andExpect(jsonPath("$.items[0].index").value(0))
+            .andExpect(jsonPath("$.items[0].success").value(true))
+            .andExpect(jsonPath("$.items[0].id").isNotEmpty());
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments", post.getId())
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(3))
+            .andExpect(jsonPath("$.content[0].createdAt").isNotEmpty())
+            .andExpect(jsonPath("$.content[0].lastModifiedAt").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/{postId}/comments/_bulk - 실패 (존재하지 않는 postId)")
+    void t17() throws Exception {
+        mockMvc.perform(
+            post("/api/v1/posts/{postId}/comments/_bulk", "nonexistent-post-id")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        Map.of(
+                            "comments", List.of(
+                                Map.of("content", "Bulk Content", "author", "Bulk Author")
+                            )
+                        )
+                    )
+                )
+        ).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{postId}/comments/cursor - search_after 커서 페이지네이션")
+    void t18() throws Exception {
+        Post post = createTestPost();
+        createTestComment(post.getId());
+        createTestComment(post.getId());
+        createTestComment(post.getId());
+
+        String response = mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/cursor", post.getId())
+                .param("size", "2")
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andReturn().getResponse()
+            .getContentAsString();
+        String nextCursor = objectMapper.readTree(response).get("nextCursor").asString();
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/cursor", post.getId())
+                .param("size", "2")
+                .param("cursor", nextCursor)
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{postId}/comments - 실패 (삭제된 postId)")
+    void t19() throws Exception {
+        Post post = createTestPost();
+        createTestComment(post.getId());
+
+        mockMvc.perform(
+            delete("/api/v1/posts/{id}", post.getId())
+                .contentType("application/json")
+        ).andExpect(status().isNoContent());
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments", post.getId())
+                .contentType("application/json")
+        ).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/{postId}/comments - Post.commentCount 반영")
+    void t20() throws Exception {
+        Post post = createTestPost();
+        createTestComment(post.getId());
+        createTestComment(post.getId());
+
+        // commentCount 는 주기적으로 flush 되므로 직접 flush 한다. (flush 는 캐시도 비운다)
+        postCommentCounter.flush();
+        String response = mockMvc.perform(
+            get("/api/v1/posts/{id}", post.getId())
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andReturn().getResponse()
+            .getContentAsString();
+
+        assertThat(objectMapper.readValue(response, Post.class).getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{postId}/comments/export - NDJSON 스트리밍")
+    void t21() throws Exception {
+        Post post = createTestPost();
+
+        mockMvc.perform(
+            post("/api/v1/posts/{postId}/comments/_bulk", post.getId())
+                .header("X-Refresh-Policy", "wait_for")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        Map.of(
+                            "comments", List.of(
+                                Map.of("content", "Export Content 1", "author", "Export Author"),
+                                Map.of("content", "Export Content 2", "author", "Export Author"),
+                                Map.of("content", "Export Content 3", "author", "Export Author")
+                            )
+                        )
+                    )
+                )
+        ).andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/export", post.getId())
+        ).andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        for (String line : lines) {
+            Comment comment = objectMapper.readValue(line, Comment.class);
+            assertThat(comment.getPostId()).isEqualTo(post.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{postId}/comments - view=summary 로 content 없이 반환")
+    void t22() throws Exception {
+        Post post = createTestPost();
+        createTestComment(post.getId());
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments", post.getId())
+                .param("view", "summary")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").isNotEmpty())
+            .andExpect(jsonPath("$.content[0].postId").value(post.getId()))
+            .andExpect(jsonPath("$.content[0].author").value("Test Comment Author"))
+            .andExpect(jsonPath("$.content[0].content").doesNotExist())
+            .andExpect(jsonPath("$.content[0].snippet").isEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{postId}/comments/search - view=highlight 로 일치 조각 반환")
+    void t23() throws Exception {
+        Post post = createTestPost();
+        mockMvc.perform(
+            post("/api/v1/posts/{postId}/comments", post.getId())
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        Map.of(
+                            "content", "this comment mentions CommentHighlightKeyword once",
+                            "author", "Highlight Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isCreated());
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/search", post.getId())
+                .param("keyword", "CommentHighlightKeyword")
+                .param("searchType", "content")
+                .param("view", "highlight")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].content").doesNotExist())
+            .andExpect(jsonPath("$.content[0].highlights.content[0]")
+                .value("this comment mentions <em>CommentHighlightKeyword</em> once"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{postId}/comments/{id} - postId routing 으로 조회, 다른 Post 의 댓글은 404")
+    void t24() throws Exception {
+        Post post = createTestPost();
+        Post otherPost = createTestPost();
+        Comment comment = createTestComment(post.getId());
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/{id}", post.getId(), comment.getId())
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(comment.getId()))
+            .andExpect(jsonPath("$.postId").value(post.getId()));
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/{id}", otherPost.getId(), comment.getId())
+        ).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{postId}/comments/cursor - 댓글이 없으면 빈 마지막 페이지")
+    void t25() throws Exception {
+        Post post = createTestPost();
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/cursor", post.getId())
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(0))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{postId}/comments/cursor - 실패 (size 범위 밖)")
+    void t26() throws Exception {
+        Post post = createTestPost();
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/cursor", post.getId())
+                .param("size", "0")
+                .contentType("application/json")
+        ).andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+            get("/api/v1/posts/{postId}/comments/cursor", post.getId())
+                .param("size", "101")
+                .contentType("application/json")
+        ).andExpect(status().isBadRequest());
+    }
 }
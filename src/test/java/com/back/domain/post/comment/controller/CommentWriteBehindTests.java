@@ -0,0 +1,123 @@
+package com.back.domain.post.comment.controller;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.BaseTest;
+import com.back.domain.post.comment.dto.AcceptedComment;
+import com.back.domain.post.post.document.Post;
+
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = {
+        "custom.comment.write-behind.enabled=true",
+        "custom.comment.write-behind.flush-interval=50ms",
+        "custom.comment.write-behind.retry-backoff=50ms"
+})
+@Testcontainers
+@AutoConfigureMockMvc
+public class CommentWriteBehindTests extends BaseTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // write-behind flush 만 직접 bulkIndex 를 호출하므로 여기에만 실패를 주입할 수 있다.
+    @MockitoSpyBean
+    private ElasticsearchTemplate elasticsearchTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Post createTestPost() throws Exception {
+        String postResponse = mockMvc.perform(
+                post("/api/v1/posts")
+                    .contentType("application/json")
+                    .content(
+                        objectMapper.writeValueAsBytes(
+                            Map.of(
+                                "title", "Write Behind Post",
+                                "content", "Write Behind Content",
+                                "author", "Write Behind Author"
+                            )
+                        )
+                    )
+            ).andExpect(status().isCreated())
+            .andReturn().getResponse()
+            .getContentAsString();
+        return objectMapper.readValue(postResponse, Post.class);
+    }
+
+    private AcceptedComment createTestComment(Post post) throws Exception {
+        String response = mockMvc.perform(
+                post("/api/v1/posts/{postId}/comments", post.getId())
+                    .contentType("application/json")
+                    .content(
+                        objectMapper.writeValueAsBytes(
+                            Map.of(
+                                "content", "Buffered Comment",
+                                "author", "Buffered Author"
+                            )
+                        )
+                    )
+            ).andExpect(status().isAccepted())
+            .andExpect(jsonPath("id").isNotEmpty())
+            .andExpect(jsonPath("postId").value(post.getId()))
+            .andReturn().getResponse()
+            .getContentAsString();
+        return objectMapper.readValue(response, AcceptedComment.class);
+    }
+
+    // flush 후 (refresh 없이 GET 은 실시간) 단건 조회 가능
+    private int awaitIndexed(Post post, AcceptedComment accepted) throws Exception {
+        int status = 0;
+        for (int i = 0; i < 20 && status != 200; i++) {
+            Thread.sleep(100);
+            status = mockMvc.perform(
+                    get("/api/v1/posts/{postId}/comments/{id}", post.getId(), accepted.id())
+                        .contentType("application/json")
+                ).andReturn().getResponse()
+                .getStatus();
+        }
+        return status;
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/{postId}/comments - write-behind 모드 202 접수 후 색인")
+    void t1() throws Exception {
+        Post post = createTestPost();
+        AcceptedComment accepted = createTestComment(post);
+
+        assertThat(awaitIndexed(post, accepted)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/{postId}/comments - write-behind _bulk 가 한 번 실패해도 재시도해서 색인")
+    void t2() throws Exception {
+        Post post = createTestPost();
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+            .doCallRealMethod()
+            .when(elasticsearchTemplate).bulkIndex(anyList(), any(IndexCoordinates.class));
+
+        AcceptedComment accepted = createTestComment(post);
+
+        assertThat(awaitIndexed(post, accepted)).isEqualTo(200);
+        verify(elasticsearchTemplate, atLeast(2)).bulkIndex(anyList(), any(IndexCoordinates.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.back.domain.post.comment.service;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.BaseTest;
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.comment.dto.BulkCreateResult;
+import com.back.domain.post.comment.dto.CommentDraft;
+import com.back.domain.post.post.service.PostCommentCounter;
+import com.back.global.elasticsearch.RefreshPolicies;
+
+// chunk 2 건씩 보내고, 두 번째 chunk 부터는 _bulk 요청 자체가 실패하게 만든다.
+@SpringBootTest(properties = "custom.comment.bulk.chunk-size=2")
+@Testcontainers
+public class CommentBulkCreateTests extends BaseTest {
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private ElasticsearchTemplate elasticsearchTemplate;
+    @MockitoSpyBean
+    private RefreshPolicies refreshPolicies;
+    @MockitoSpyBean
+    private PostCommentCounter postCommentCounter;
+
+    @Test
+    @DisplayName("createAll - 뒤 chunk 가 요청째로 실패해도 앞 chunk 는 성공으로 세고 실패한 chunk 항목만 실패로 돌려준다")
+    void t1() {
+        ElasticsearchOperations failing = mock(ElasticsearchOperations.class);
+        when(failing.bulkIndex(anyList(), any(IndexCoordinates.class)))
+            .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        AtomicInteger chunks = new AtomicInteger();
+        doAnswer(invocation -> chunks.getAndIncrement() == 0 ? invocation.callRealMethod() : failing)
+            .when(refreshPolicies).operations(any(RefreshPolicy.class));
+
+        String postId = "bulk-post-" + UUID.randomUUID();
+        BulkCreateResult result = commentService.createAll(postId, IntStream.range(0, 4)
+            .mapToObj(i -> new CommentDraft("Bulk Comment " + i, "Bulk Commenter"))
+            .toList());
+
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.items()).extracting(BulkCreateResult.Item::success)
+            .containsExactly(true, true, false, false);
+        assertThat(result.items().get(2).status()).isEqualTo(503);
+        verify(postCommentCounter).increment(postId, 2);
+
+        elasticsearchTemplate.indexOps(Comment.class).refresh();
+        long indexed = elasticsearchTemplate.count(NativeQuery.builder()
+            .withQuery(q -> q.term(t -> t.field("postId").value(postId)))
+            .withRoute(postId)
+            .build(), Comment.class);
+        assertThat(indexed).isEqualTo(2);
+    }
+}
@@ -0,0 +1,243 @@
+package com.back.domain.post.comment.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.BaseTest;
+import com.back.domain.post.comment.document.Comment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 매 테스트마다 고유한 alias/인덱스 이름을 써서 앱이 쓰는 comments 인덱스와 섞이지 않게 한다.
+@SpringBootTest
+@Testcontainers
+public class CommentIndicesTests extends BaseTest {
+    @Autowired
+    private ElasticsearchTemplate elasticsearchTemplate;
+
+    private String readAlias;
+    private String writeAlias;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        String name = "rolling-test-" + UUID.randomUUID().toString().substring(0, 8);
+        readAlias = name;
+        writeAlias = name + "-write";
+        clock = new MutableClock(LocalDate.of(2026, 10, 17));
+    }
+
+    @AfterEach
+    void tearDown() {
+        elasticsearchTemplate.execute(client -> client.indices().delete(d -> d
+                .index(readAlias + "-*")
+                .allowNoIndices(true)
+                .ignoreUnavailable(true)));
+        elasticsearchTemplate.execute(client -> client.indices().deleteIndexTemplate(d -> d.name(readAlias)));
+    }
+
+    private CommentIndices commentIndices(int retainPeriods) {
+        return new CommentIndices(elasticsearchTemplate, readAlias, true, ChronoUnit.MONTHS, clock,
+                writeAlias, retainPeriods, false);
+    }
+
+    private Set<String> resolve(String name) {
+        return elasticsearchTemplate.execute(client -> client.indices()
+                .get(g -> g.index(name).allowNoIndices(true).ignoreUnavailable(true))
+                .indices().keySet());
+    }
+
+    private Comment index(CommentIndices commentIndices, String postId, String content) {
+        return elasticsearchTemplate.withRefreshPolicy(RefreshPolicy.NONE)
+                .save(new Comment(postId, content, "Rolling Author"), commentIndices.writeIndex());
+    }
+
+    @Test
+    @DisplayName("initialize - 현재 기간 인덱스를 만들고 읽기/쓰기 alias 를 붙인다")
+    void t1() {
+        commentIndices(12).initialize();
+
+        String current = readAlias + "-2026.10";
+        assertThat(resolve(readAlias)).containsExactly(current);
+        assertThat(resolve(writeAlias)).containsExactly(current);
+    }
+
+    @Test
+    @DisplayName("roll - 기간이 바뀌면 새 인덱스로 write-alias 를 옮기고, 읽기 alias 는 둘 다 가리킨다")
+    void t2() {
+        CommentIndices commentIndices = commentIndices(12);
+        commentIndices.initialize();
+
+        clock.set(LocalDate.of(2026, 11, 1));
+        commentIndices.roll();
+
+        assertThat(resolve(writeAlias)).containsExactly(readAlias + "-2026.11");
+        assertThat(resolve(readAlias)).containsExactlyInAnyOrder(readAlias + "-2026.10", readAlias + "-2026.11");
+    }
+
+    @Test
+    @DisplayName("roll - retain-periods 를 넘긴 기간 인덱스는 삭제한다")
+    void t3() {
+        CommentIndices commentIndices = commentIndices(2);
+        commentIndices.initialize();
+        clock.set(LocalDate.of(2026, 11, 1));
+        commentIndices.roll();
+        clock.set(LocalDate.of(2026, 12, 1));
+        commentIndices.roll();
+
+        assertThat(resolve(readAlias + "-*"))
+                .containsExactlyInAnyOrder(readAlias + "-2026.11", readAlias + "-2026.12");
+        assertThat(resolve(writeAlias)).containsExactly(readAlias + "-2026.12");
+    }
+
+    @Test
+    @DisplayName("roll - 여러 인스턴스가 동시에 roll 해도 실패하지 않고 write-alias 는 하나만 가리킨다")
+    void t4() throws Exception {
+        int instances = 4;
+        List<CommentIndices> all = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            all.add(commentIndices(12));
+        }
+        all.getFirst().initialize();
+
+        ExecutorService executor = Executors.newFixedThreadPool(instances);
+        try {
+            for (LocalDate month = LocalDate.of(2026, 11, 1); month.isBefore(LocalDate.of(2027, 3, 1)); month = month.plusMonths(1)) {
+                clock.set(month);
+                CyclicBarrier barrier = new CyclicBarrier(instances);
+                List<Future<?>> futures = new ArrayList<>();
+                for (CommentIndices commentIndices : all) {
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        commentIndices.roll();
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+
+                String current = readAlias + "-" + month.getYear() + "." + "%02d".formatted(month.getMonthValue());
+                assertThat(resolve(writeAlias)).containsExactly(current);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(resolve(readAlias)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("initialize - 현재 기간 인덱스가 이미 있어도 실패하지 않는다")
+    void t5() {
+        commentIndices(12).initialize();
+        // 다른 인스턴스가 먼저 시작한 상황
+        commentIndices(12).initialize();
+
+        assertThat(resolve(writeAlias)).containsExactly(readAlias + "-2026.10");
+    }
+
+    @Test
+    @DisplayName("locate - refresh 전의 댓글도 realtime _mget 으로 찾고, 이전 기간 인덱스의 댓글도 찾는다")
+    void t6() {
+        CommentIndices commentIndices = commentIndices(12);
+        commentIndices.initialize();
+        Comment older = index(commentIndices, "rolling-post", "October comment");
+
+        clock.set(LocalDate.of(2026, 11, 1));
+        commentIndices.roll();
+        Comment newer = index(commentIndices, "rolling-post", "November comment");
+
+        CommentIndices.Located locatedOlder = commentIndices.locate("rolling-post", older.getId());
+        assertThat(locatedOlder).isNotNull();
+        assertThat(locatedOlder.index()).isEqualTo(readAlias + "-2026.10");
+        assertThat(locatedOlder.comment().getContent()).isEqualTo("October comment");
+        assertThat(locatedOlder.comment().getSeqNoPrimaryTerm()).isNotNull();
+
+        CommentIndices.Located locatedNewer = commentIndices.locate("rolling-post", newer.getId());
+        assertThat(locatedNewer).isNotNull();
+        assertThat(locatedNewer.index()).isEqualTo(readAlias + "-2026.11");
+        assertThat(locatedNewer.comment().getContent()).isEqualTo("November comment");
+    }
+
+    @Test
+    @DisplayName("locate - 없는 ID, 다른 게시글의 ID 는 null")
+    void t7() {
+        CommentIndices commentIndices = commentIndices(12);
+        commentIndices.initialize();
+        Comment comment = index(commentIndices, "rolling-post", "Some comment");
+        elasticsearchTemplate.indexOps(IndexCoordinates.of(readAlias)).refresh();
+
+        assertThat(commentIndices.locate("rolling-post", "missing-id")).isNull();
+        assertThat(commentIndices.locate("other-post", comment.getId())).isNull();
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(LocalDate date) {
+            set(date);
+        }
+
+        void set(LocalDate date) {
+            instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Test
+    @DisplayName("locate - 다른 인스턴스가 먼저 roll 해도 이전 기간 인덱스의 댓글을 찾는다")
+    void t8() {
+        CommentIndices self = commentIndices(12);
+        self.initialize();
+        Comment comment = index(self, "rolling-post", "Before other roll");
+
+        MutableClock otherClock = new MutableClock(LocalDate.of(2026, 11, 1));
+        CommentIndices other = new CommentIndices(elasticsearchTemplate, readAlias, true, ChronoUnit.MONTHS, otherClock,
+                writeAlias, 12, false);
+        other.roll();
+        assertThat(resolve(writeAlias)).containsExactly(readAlias + "-2026.11");
+
+        // self 는 아직 roll 하지 않았다.
+        CommentIndices.Located located = self.locate("rolling-post", comment.getId());
+        assertThat(located).isNotNull();
+        assertThat(located.index()).isEqualTo(readAlias + "-2026.10");
+        assertThat(located.comment().getContent()).isEqualTo("Before other roll");
+    }
+}
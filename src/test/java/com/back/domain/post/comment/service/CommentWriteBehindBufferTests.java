@@ -0,0 +1,114 @@
+package com.back.domain.post.comment.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+import com.back.domain.post.post.service.PostCommentCounter;
+import com.back.global.exception.ServiceUnavailableException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// ES 없이 bulkIndex 로 넘어온 ID 만 모아서 접수한 댓글이 빠짐없이 색인 요청되는지 본다.
+public class CommentWriteBehindBufferTests {
+    private static final int WRITERS = 8;
+
+    private final ElasticsearchTemplate elasticsearchTemplate = mock(ElasticsearchTemplate.class);
+    private final CommentIndices commentIndices = mock(CommentIndices.class);
+    private final Set<String> indexed = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private List<Object> indexAll(List<IndexQuery> queries) {
+        queries.forEach(query -> indexed.add(query.getId()));
+        return List.of();
+    }
+
+    private CommentWriteBehindBuffer buffer() {
+        when(commentIndices.writeIndex()).thenReturn(IndexCoordinates.of("comments"));
+        when(elasticsearchTemplate.bulkIndex(anyList(), any(IndexCoordinates.class)))
+                .thenAnswer(invocation -> indexAll(invocation.getArgument(0)));
+        CommentWriteBehindBuffer buffer = new CommentWriteBehindBuffer(elasticsearchTemplate, commentIndices,
+                mock(PostCommentCounter.class), true, 100_000, 50, Duration.ofMillis(5), Duration.ofSeconds(10),
+                Duration.ofMillis(10), Duration.ofMillis(10));
+        buffer.start();
+        return buffer;
+    }
+
+    @Test
+    @DisplayName("drain - 종료와 동시에 들어온 접수도 202 로 받았으면 모두 색인 요청한다")
+    void t1() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            indexed.clear();
+            CommentWriteBehindBuffer buffer = buffer();
+            Set<String> accepted = ConcurrentHashMap.newKeySet();
+            CountDownLatch writing = new CountDownLatch(WRITERS);
+            CountDownLatch stopped = new CountDownLatch(WRITERS);
+            for (int i = 0; i < WRITERS; i++) {
+                executor.execute(() -> {
+                    writing.countDown();
+                    try {
+                        while (true) {
+                            accepted.add(buffer.offer("post-1", "content", "author").id());
+                        }
+                    } catch (ServiceUnavailableException e) {
+                        // drain 이후의 거절
+                    } finally {
+                        stopped.countDown();
+                    }
+                });
+            }
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            buffer.drain();
+
+            assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(indexed).containsAll(accepted);
+        }
+    }
+
+    @Test
+    @DisplayName("discard - 삭제된 게시글의 댓글은 큐에 있든 나중에 접수되든 색인하지 않는다")
+    void t2() throws Exception {
+        CommentWriteBehindBuffer buffer = buffer();
+        // flush 가 첫 _bulk 에서 멈춰 있는 동안 나머지를 큐에 쌓는다.
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(elasticsearchTemplate.bulkIndex(anyList(), any(IndexCoordinates.class))).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return indexAll(invocation.getArgument(0));
+        });
+        String blocker = buffer.offer("post-other", "content", "author").id();
+        assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+        String queued = buffer.offer("post-deleted", "content", "author").id();
+        String kept = buffer.offer("post-other", "content", "author").id();
+
+        release.countDown();
+        buffer.discard("post-deleted");
+        String late = buffer.offer("post-deleted", "content", "author").id();
+        buffer.drain();
+
+        assertThat(indexed).contains(blocker, kept).doesNotContain(queued, late);
+    }
+}
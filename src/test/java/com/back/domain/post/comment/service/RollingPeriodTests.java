@@ -0,0 +1,99 @@
+package com.back.domain.post.comment.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RollingPeriodTests {
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    @Test
+    @DisplayName("기간 시작일 - DAYS/MONTHS/YEARS")
+    void t1() {
+        assertThat(new RollingPeriod("comments-", ChronoUnit.DAYS).start(TODAY)).isEqualTo(TODAY);
+        assertThat(new RollingPeriod("comments-", ChronoUnit.MONTHS).start(TODAY)).isEqualTo(LocalDate.of(2026, 10, 1));
+        assertThat(new RollingPeriod("comments-", ChronoUnit.YEARS).start(TODAY)).isEqualTo(LocalDate.of(2026, 1, 1));
+    }
+
+    @Test
+    @DisplayName("인덱스 이름 - 기간별 접미사")
+    void t2() {
+        assertThat(new RollingPeriod("comments-", ChronoUnit.DAYS).indexName(TODAY)).isEqualTo("comments-2026.10.17");
+        assertThat(new RollingPeriod("comments-", ChronoUnit.MONTHS).indexName(TODAY)).isEqualTo("comments-2026.10");
+        assertThat(new RollingPeriod("comments-", ChronoUnit.YEARS).indexName(TODAY)).isEqualTo("comments-2026");
+        assertThat(new RollingPeriod("comments-", ChronoUnit.MONTHS).pattern()).isEqualTo("comments-*");
+    }
+
+    @Test
+    @DisplayName("인덱스 이름 파싱 - 기간별 접미사를 기간 시작일로 되돌린다")
+    void t3() {
+        assertThat(new RollingPeriod("comments-", ChronoUnit.DAYS).parseStart("comments-2026.10.17"))
+                .isEqualTo(LocalDate.of(2026, 10, 17));
+        assertThat(new RollingPeriod("comments-", ChronoUnit.MONTHS).parseStart("comments-2026.10"))
+                .isEqualTo(LocalDate.of(2026, 10, 1));
+        assertThat(new RollingPeriod("comments-", ChronoUnit.YEARS).parseStart("comments-2026"))
+                .isEqualTo(LocalDate.of(2026, 1, 1));
+    }
+
+    @Test
+    @DisplayName("인덱스 이름 파싱 - 규칙에 맞지 않는 이름은 null")
+    void t4() {
+        RollingPeriod monthly = new RollingPeriod("comments-", ChronoUnit.MONTHS);
+
+        assertThat(monthly.parseStart("comments-write")).isNull();
+        assertThat(monthly.parseStart("comments")).isNull();
+        assertThat(monthly.parseStart("posts-2026.10")).isNull();
+        // 다른 기간 단위의 이름, 0 이 빠진 이름은 이 규칙으로 만든 이름이 아니다.
+        assertThat(monthly.parseStart("comments-2026.10.17")).isNull();
+        assertThat(monthly.parseStart("comments-2026")).isNull();
+        assertThat(monthly.parseStart("comments-2026.1")).isNull();
+        assertThat(monthly.parseStart("comments-2026.13")).isNull();
+    }
+
+    @Test
+    @DisplayName("보존 기간 - 오늘이 속한 기간을 포함해 retainPeriods 개를 남긴다")
+    void t5() {
+        RollingPeriod monthly = new RollingPeriod("comments-", ChronoUnit.MONTHS);
+
+        assertThat(monthly.isExpired("comments-2026.10", TODAY, 12)).isFalse();
+        assertThat(monthly.isExpired("comments-2025.11", TODAY, 12)).isFalse();
+        assertThat(monthly.isExpired("comments-2025.10", TODAY, 12)).isTrue();
+
+        assertThat(monthly.isExpired("comments-2026.10", TODAY, 1)).isFalse();
+        assertThat(monthly.isExpired("comments-2026.09", TODAY, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("보존 기간 - DAYS/YEARS 경계")
+    void t6() {
+        RollingPeriod daily = new RollingPeriod("comments-", ChronoUnit.DAYS);
+        assertThat(daily.isExpired("comments-2026.10.11", TODAY, 7)).isFalse();
+        assertThat(daily.isExpired("comments-2026.10.10", TODAY, 7)).isTrue();
+
+        RollingPeriod yearly = new RollingPeriod("comments-", ChronoUnit.YEARS);
+        assertThat(yearly.isExpired("comments-2025", TODAY, 2)).isFalse();
+        assertThat(yearly.isExpired("comments-2024", TODAY, 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("보존 기간 - 0 이하이면 지우지 않고, 규칙에 맞지 않는 이름도 지우지 않는다")
+    void t7() {
+        RollingPeriod monthly = new RollingPeriod("comments-", ChronoUnit.MONTHS);
+
+        assertThat(monthly.isExpired("comments-2000.01", TODAY, 0)).isFalse();
+        assertThat(monthly.isExpired("comments-2000.01", TODAY, -1)).isFalse();
+        assertThat(monthly.isExpired("comments-write", TODAY, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 기간 단위")
+    void t8() {
+        assertThatThrownBy(() -> new RollingPeriod("comments-", ChronoUnit.WEEKS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
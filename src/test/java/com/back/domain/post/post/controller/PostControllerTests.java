@@ -1,18 +1,34 @@
 package com.back.domain.post.post.controller;
 
 import com.back.BaseTest;
+import com.back.domain.post.comment.document.Comment;
 import com.back.domain.post.post.document.Post;
+import com.back.domain.post.post.service.PostCache;
+import com.back.domain.post.post.service.PostCommentCounter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import tools.jackson.databind.ObjectMapper;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -21,6 +37,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class PostControllerTests extends BaseTest {
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private PostCache postCache;
+    @Autowired
+    private PostCommentCounter postCommentCounter;
+    @Autowired
+    private ElasticsearchTemplate elasticsearchTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
@@ -382,4 +404,581 @@ public class PostControllerTests extends BaseTest {
             .andExpect(jsonPath("$.content").isArray())
             .andExpect(jsonPath("$.content[0].title").value("TitleAndContentSearchTest"));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/cursor - search_after 커서 페이지네이션")
+    void t16() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(
+                post("/api/v1/posts")
+                    .contentType("application/json")
+                    .content(
+                        objectMapper.writeValueAsBytes(
+                            new PostController.CreatePostRequest(
+                                "Cursor Test Title " + i,
+                                "Cursor Test Content " + i,
+                                "Cursor Test Author"
+                            )
+                        )
+                    )
+            ).andExpect(status().isCreated());
+        }
+
+        String response = mockMvc.perform(
+            get("/api/v1/posts/cursor")
+                .param("size", "2")
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn().getResponse()
+            .getContentAsString();
+        String nextCursor = objectMapper.readTree(response).get("nextCursor").asString();
+
+        mockMvc.perform(
+            get("/api/v1/posts/cursor")
+                .param("size", "2")
+                .param("cursor", nextCursor)
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content").isArray());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/cursor - 실패 (잘못된 cursor)")
+    void t17() throws Exception {
+        mockMvc.perform(
+            get("/api/v1/posts/cursor")
+                .param("cursor", "not-a-cursor")
+                .contentType("application/json")
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/posts/{id} - 댓글 삭제 task 가 끝나면 해당 Post 의 댓글만 지워진다")
+    void t18() throws Exception {
+        Post deleted = createCascadePost("Cascade Delete Title");
+        Post kept = createCascadePost("Cascade Keep Title");
+        for (Post target : List.of(deleted, kept)) {
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(
+                    post("/api/v1/posts/{postId}/comments", target.getId())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsBytes(Map.of(
+                            "content", "Cascade Comment " + i,
+                            "author", "Cascade Commenter"
+                        )))
+                ).andExpect(status().isCreated());
+            }
+        }
+        assertThat(countComments(deleted.getId())).isEqualTo(2);
+
+        String taskId = mockMvc.perform(
+                delete("/api/v1/posts/{id}", deleted.getId())
+                        .contentType("application/json")
+        ).andExpect(status().isNoContent())
+            .andExpect(header().exists("X-Comment-Deletion-Task"))
+            .andReturn().getResponse()
+            .getHeader("X-Comment-Deletion-Task");
+
+        GetTasksResponse task = elasticsearchTemplate.execute(client -> client.tasks()
+            .get(g -> g.taskId(taskId).waitForCompletion(true).timeout(t -> t.time("30s"))));
+        assertThat(task.completed()).isTrue();
+        assertThat(task.error()).isNull();
+        elasticsearchTemplate.indexOps(Comment.class).refresh();
+
+        assertThat(countComments(deleted.getId())).isZero();
+        assertThat(countComments(kept.getId())).isEqualTo(2);
+    }
+
+    private Post createCascadePost(String title) throws Exception {
+        String response = mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            title,
+                            "Cascade Delete Content",
+                            "Cascade Delete Author"
+                        )
+                    )
+                )
+            ).andExpect(status().isCreated())
+            .andReturn().getResponse()
+            .getContentAsString();
+        return objectMapper.readValue(response, Post.class);
+    }
+
+    private long countComments(String postId) {
+        return elasticsearchTemplate.count(NativeQuery.builder()
+            .withQuery(q -> q.term(t -> t.field("postId").value(postId)))
+            .withRoute(postId)
+            .build(), Comment.class);
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/posts/{id} - 실패 (seq_no 충돌)")
+    void t19() throws Exception {
+        String response = mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "Concurrency Title",
+                            "Concurrency Content",
+                            "Concurrency Author"
+                        )
+                    )
+                )
+            ).andExpect(status().isCreated())
+            .andReturn().getResponse()
+            .getContentAsString();
+        Post createdPost = objectMapper.readValue(response, Post.class);
+        long seqNo = createdPost.getSeqNoPrimaryTerm().sequenceNumber();
+        long primaryTerm = createdPost.getSeqNoPrimaryTerm().primaryTerm();
+
+        // 조회 시점의 seq_no 로 수정 - 성공
+        mockMvc.perform(
+            put("/api/v1/posts/{id}", createdPost.getId())
+                .param("ifSeqNo", String.valueOf(seqNo))
+                .param("ifPrimaryTerm", String.valueOf(primaryTerm))
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.UpdatePostRequest(
+                            "First Update",
+                            "First Update Content"
+                        )
+                    )
+                )
+            ).andExpect(status().isOk())
+            .andExpect(jsonPath("title").value("First Update"))
+            .andExpect(jsonPath("author").value("Concurrency Author"))
+            .andExpect(jsonPath("lastModifiedAt").isNotEmpty());
+
+        // 같은 seq_no 로 다시 수정 - 충돌
+        mockMvc.perform(
+            put("/api/v1/posts/{id}", createdPost.getId())
+                .param("ifSeqNo", String.valueOf(seqNo))
+                .param("ifPrimaryTerm", String.valueOf(primaryTerm))
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.UpdatePostRequest(
+                            "Second Update",
+                            "Second Update Content"
+                        )
+                    )
+                )
+            ).andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/search - 형태소 분석 검색 (조사 제거)")
+    void t20() throws Exception {
+        mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "노리형태소분석기를 소개합니다",
+                            "한국어 문서는 노리형태소분석기로 색인합니다",
+                            "Nori Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isCreated());
+
+        // 조사("를", "로")가 붙은 형태로 색인되어도 명사만으로 검색된다.
+        mockMvc.perform(
+            get("/api/v1/posts/search")
+                .param("keyword", "노리형태소분석기")
+                .param("searchType", "titleAndContent")
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].author").value("Nori Author"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/suggest - 제목 자동완성")
+    void t21() throws Exception {
+        mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "Autocompletion Guide",
+                            "Suggest Content",
+                            "Suggest Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isCreated());
+
+        mockMvc.perform(
+            get("/api/v1/posts/suggest")
+                .param("prefix", "autocomp")
+                .contentType("application/json")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").isNotEmpty())
+            .andExpect(jsonPath("$[0].title").value("Autocompletion Guide"))
+            .andExpect(jsonPath("$[0].content").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/export - NDJSON 스트리밍")
+    void t22() throws Exception {
+        mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "Export Title",
+                            "Export Content",
+                            "Export Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isCreated());
+
+        MvcResult result = mockMvc.perform(
+            get("/api/v1/posts/export")
+        ).andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<Post> posts = body.lines()
+            .map(line -> objectMapper.readValue(line, Post.class))
+            .toList();
+        assertThat(posts).isNotEmpty();
+        assertThat(posts).anyMatch(post -> "Export Title".equals(post.getTitle()));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts - 실패 (잘못된 refresh 정책)")
+    void t23() throws Exception {
+        mockMvc.perform(
+            post("/api/v1/posts")
+                .param("refresh", "sometimes")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "Refresh Title",
+                            "Refresh Content",
+                            "Refresh Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{id} - 수정 후 캐시 갱신")
+    void t24() throws Exception {
+        String response = mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "Cached Title",
+                            "Cached Content",
+                            "Cache Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isCreated())
+            .andReturn().getResponse()
+            .getContentAsString();
+        Post createdPost = objectMapper.readValue(response, Post.class);
+
+        // 캐시 적재
+        mockMvc.perform(
+            get("/api/v1/posts/{id}", createdPost.getId())
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("title").value("Cached Title"));
+
+        mockMvc.perform(
+            put("/api/v1/posts/{id}", createdPost.getId())
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.UpdatePostRequest(
+                            "Updated Cached Title",
+                            "Updated Cached Content"
+                        )
+                    )
+                )
+        ).andExpect(status().isOk());
+
+        mockMvc.perform(
+            get("/api/v1/posts/{id}", createdPost.getId())
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("title").value("Updated Cached Title"));
+
+        mockMvc.perform(
+            delete("/api/v1/posts/{id}", createdPost.getId())
+        ).andExpect(status().isNoContent());
+
+        mockMvc.perform(
+            get("/api/v1/posts/{id}", createdPost.getId())
+        ).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/_mget - 요청 순서 유지, 없는 문서 표시, _source 필터")
+    void t25() throws Exception {
+        String[] ids = new String[2];
+        for (int i = 0; i < 2; i++) {
+            String response = mockMvc.perform(
+                post("/api/v1/posts")
+                    .contentType("application/json")
+                    .content(
+                        objectMapper.writeValueAsBytes(
+                            new PostController.CreatePostRequest(
+                                "Mget Title " + i,
+                                "Mget Content " + i,
+                                "Mget Author"
+                            )
+                        )
+                    )
+            ).andExpect(status().isCreated())
+                .andReturn().getResponse()
+                .getContentAsString();
+            ids[i] = objectMapper.readValue(response, Post.class).getId();
+        }
+
+        mockMvc.perform(
+            post("/api/v1/posts/_mget")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        Map.of(
+                            "ids", List.of(ids[1], "nonexistent-post-id", ids[0]),
+                            "fields", List.of("title")
+                        )
+                    )
+                )
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].id").value(ids[1]))
+            .andExpect(jsonPath("$[0].found").value(true))
+            .andExpect(jsonPath("$[0].post.title").value("Mget Title 1"))
+            .andExpect(jsonPath("$[0].post.content").isEmpty())
+            .andExpect(jsonPath("$[1].id").value("nonexistent-post-id"))
+            .andExpect(jsonPath("$[1].found").value(false))
+            .andExpect(jsonPath("$[2].id").value(ids[0]))
+            .andExpect(jsonPath("$[2].post.title").value("Mget Title 0"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/search - view=summary 로 content 없이 snippet 반환")
+    void t26() throws Exception {
+        mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "SummaryViewTitle",
+                            "SummaryViewContent " + "long body ".repeat(100),
+                            "Summary Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isCreated());
+
+        mockMvc.perform(
+            get("/api/v1/posts/search")
+                .param("keyword", "SummaryViewTitle")
+                .param("searchType", "title")
+                .param("view", "summary")
+                .param("snippet", "30")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title").value("SummaryViewTitle"))
+            .andExpect(jsonPath("$.content[0].author").value("Summary Author"))
+            .andExpect(jsonPath("$.content[0].id").isNotEmpty())
+            .andExpect(jsonPath("$.content[0].content").doesNotExist())
+            .andExpect(jsonPath("$.content[0].snippet").value(startsWith("SummaryViewContent")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/search - view=highlight 로 일치 조각 반환")
+    void t27() throws Exception {
+        mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "Highlight HighlightKeyword Title",
+                            "filler ".repeat(100) + "HighlightKeyword appears here " + "filler ".repeat(100),
+                            "Highlight Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isCreated());
+
+        mockMvc.perform(
+            get("/api/v1/posts/search")
+                .param("keyword", "HighlightKeyword")
+                .param("view", "highlight")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title").value("Highlight HighlightKeyword Title"))
+            .andExpect(jsonPath("$.content[0].content").doesNotExist())
+            .andExpect(jsonPath("$.content[0].highlights.title[0]").value("Highlight <em>HighlightKeyword</em> Title"))
+            .andExpect(jsonPath("$.content[0].highlights.content[0]").value(containsString("<em>HighlightKeyword</em>")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{id}?includeComments=N - Post 와 첫 N 개 댓글을 함께 반환")
+    void t28() throws Exception {
+        String response = mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.CreatePostRequest(
+                            "Post With Comments",
+                            "Post With Comments Content",
+                            "Page Author"
+                        )
+                    )
+                )
+        ).andExpect(status().isCreated())
+            .andReturn().getResponse()
+            .getContentAsString();
+        Post createdPost = objectMapper.readValue(response, Post.class);
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(
+                post("/api/v1/posts/{postId}/comments", createdPost.getId())
+                    .contentType("application/json")
+                    .content(
+                        objectMapper.writeValueAsBytes(
+                            Map.of(
+                                "content", "Page Comment " + i,
+                                "author", "Page Commenter"
+                            )
+                        )
+                    )
+            ).andExpect(status().isCreated());
+        }
+
+        // 캐시 hit: 댓글 검색만 보낸다.
+        mockMvc.perform(
+            get("/api/v1/posts/{id}", createdPost.getId())
+                .param("includeComments", "2")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.post.id").value(createdPost.getId()))
+            .andExpect(jsonPath("$.post.title").value("Post With Comments"))
+            .andExpect(jsonPath("$.comments.length()").value(2))
+            .andExpect(jsonPath("$.comments[0].postId").value(createdPost.getId()))
+            .andExpect(jsonPath("$.commentTotal").value(3));
+
+        // 캐시 miss: Post 와 댓글을 _msearch 로 함께 조회한다.
+        postCache.invalidate(createdPost.getId());
+        mockMvc.perform(
+            get("/api/v1/posts/{id}", createdPost.getId())
+                .param("includeComments", "5")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.post.id").value(createdPost.getId()))
+            .andExpect(jsonPath("$.comments.length()").value(3))
+            .andExpect(jsonPath("$.commentTotal").value(3));
+
+        mockMvc.perform(
+            get("/api/v1/posts/{id}", "nonexistent-post-id")
+                .param("includeComments", "5")
+        ).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/cursor - 실패 (size 범위 밖)")
+    void t29() throws Exception {
+        mockMvc.perform(
+            get("/api/v1/posts/cursor")
+                .param("size", "0")
+                .contentType("application/json")
+        ).andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+            get("/api/v1/posts/cursor")
+                .param("size", "101")
+                .contentType("application/json")
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/posts/{id} - 조회 후 commentCount 만 반영되었으면 조회 시점의 seq_no 로 수정할 수 있다")
+    void t30() throws Exception {
+        Post createdPost = createCascadePost("Counter Title");
+        long seqNo = createdPost.getSeqNoPrimaryTerm().sequenceNumber();
+        long primaryTerm = createdPost.getSeqNoPrimaryTerm().primaryTerm();
+
+        // 조회와 수정 사이에 댓글 수 반영(scripted _update)으로 seq_no 가 올라간다.
+        postCommentCounter.increment(createdPost.getId(), 2);
+        postCommentCounter.flush();
+        Post counted = elasticsearchTemplate.get(createdPost.getId(), Post.class);
+        assertThat(counted.getSeqNoPrimaryTerm().sequenceNumber()).isGreaterThan(seqNo);
+
+        mockMvc.perform(
+            put("/api/v1/posts/{id}", createdPost.getId())
+                .param("ifSeqNo", String.valueOf(seqNo))
+                .param("ifPrimaryTerm", String.valueOf(primaryTerm))
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.UpdatePostRequest("Counter Update", "Counter Content")
+                    )
+                )
+            ).andExpect(status().isOk())
+            .andExpect(jsonPath("title").value("Counter Update"))
+            .andExpect(jsonPath("commentCount").value(2));
+
+        // 수정 뒤에 다시 댓글 수만 반영되어도, 수정 전 seq_no 로는 여전히 충돌
+        postCommentCounter.increment(createdPost.getId(), 1);
+        postCommentCounter.flush();
+        mockMvc.perform(
+            put("/api/v1/posts/{id}", createdPost.getId())
+                .param("ifSeqNo", String.valueOf(counted.getSeqNoPrimaryTerm().sequenceNumber()))
+                .param("ifPrimaryTerm", String.valueOf(primaryTerm))
+                .contentType("application/json")
+                .content(
+                    objectMapper.writeValueAsBytes(
+                        new PostController.UpdatePostRequest("Stale Update", "Stale Content")
+                    )
+                )
+            ).andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/suggest - 실패 (size 범위 밖)")
+    void t31() throws Exception {
+        mockMvc.perform(
+            get("/api/v1/posts/suggest")
+                .param("prefix", "autocomp")
+                .param("size", "0")
+                .contentType("application/json")
+        ).andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+            get("/api/v1/posts/suggest")
+                .param("prefix", "autocomp")
+                .param("size", "101")
+                .contentType("application/json")
+        ).andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,137 @@
+package com.back.domain.post.post.controller;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.back.BaseTest;
+import com.back.domain.post.post.service.PostService;
+
+// ./gradlew loadTest 로만 실행된다. (기본 test 태스크에서는 "load" 태그 제외)
+// platform thread 모드와 virtual thread 모드에서 GET /api/v1/posts/search 의 처리량과 p99 를 비교한다.
+public class PostSearchLoadTests {
+    private static final int REQUESTS = 2_000;
+    private static final int CONCURRENCY = 200;
+    private static final String KEYWORD = "LoadTestKeyword";
+
+    @SpringBootTest(
+            webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {
+                    "spring.threads.virtual.enabled=false",
+                    // 같은 검색어 요청이 캐시 hit 로 끝나면 ES 대기 시간이 아니라 캐시 조회를 비교하게 된다.
+                    "custom.post.search-cache.enabled=false"
+            }
+    )
+    @Testcontainers
+    public static class PlatformThreadTests extends LoadScenario {
+    }
+
+    @SpringBootTest(
+            webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {
+                    "spring.threads.virtual.enabled=true",
+                    // 같은 검색어 요청이 캐시 hit 로 끝나면 ES 대기 시간이 아니라 캐시 조회를 비교하게 된다.
+                    "custom.post.search-cache.enabled=false"
+            }
+    )
+    @Testcontainers
+    public static class VirtualThreadTests extends LoadScenario {
+    }
+
+    @Tag("load")
+    abstract static class LoadScenario extends BaseTest {
+        private static final Logger log = LoggerFactory.getLogger(PostSearchLoadTests.class);
+
+        @LocalServerPort
+        private int port;
+        @Autowired
+        private PostService postService;
+
+        @BeforeEach
+        void seed() {
+            if (postService.search(KEYWORD, "title", PageRequest.of(0, 1)).isEmpty()) {
+                for (int i = 0; i < 200; i++) {
+                    postService.create(KEYWORD + " title " + i, "load test content " + i, "LoadTestAuthor");
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/posts/search - 부하 테스트")
+        void search() throws Exception {
+            HttpClient httpClient = HttpClient.newBuilder().build();
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/posts/search?keyword=" + KEYWORD + "&size=10");
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>(REQUESTS));
+            AtomicInteger rejected = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+            long startedAt = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>(REQUESTS);
+                for (int i = 0; i < REQUESTS; i++) {
+                    inFlight.acquire();
+                    futures.add(executor.submit(() -> {
+                        try {
+                            long requestStartedAt = System.nanoTime();
+                            HttpResponse<Void> response = httpClient.send(
+                                    HttpRequest.newBuilder(uri).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding()
+                            );
+                            latencies.add(System.nanoTime() - requestStartedAt);
+                            if (response.statusCode() == 503) {
+                                rejected.incrementAndGet();
+                            } else if (response.statusCode() != 200) {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        } finally {
+                            inFlight.release();
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            double throughput = REQUESTS / (elapsedNanos / 1_000_000_000.0);
+            double p50 = sorted.get((int) (sorted.size() * 0.50)) / 1_000_000.0;
+            double p99 = sorted.get((int) Math.min(sorted.size() - 1, sorted.size() * 0.99)) / 1_000_000.0;
+            log.info("[{}] requests={} concurrency={} throughput={} req/s p50={}ms p99={}ms rejected(503)={} failed={}",
+                    getClass().getSimpleName(), REQUESTS, CONCURRENCY,
+                    "%.1f".formatted(throughput), "%.1f".formatted(p50), "%.1f".formatted(p99),
+                    rejected.get(), failed.get());
+
+            assertThat(failed.get()).isZero();
+        }
+    }
+}
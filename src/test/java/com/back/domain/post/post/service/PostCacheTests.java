@@ -0,0 +1,94 @@
+package com.back.domain.post.post.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.domain.post.post.document.Post;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostCacheTests {
+    private final PostCache postCache = new PostCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    private static Post post(String id, long seqNo) {
+        Post post = new Post("Cache Title", "Cache Content", "Cache Author");
+        ReflectionTestUtils.setField(post, "id", id);
+        ReflectionTestUtils.setField(post, "seqNoPrimaryTerm", new SeqNoPrimaryTerm(seqNo, 1));
+        return post;
+    }
+
+    // loader 가 시작되면 loading 을 내리고, release 가 내려갈 때까지 응답을 붙잡아 둔다.
+    private CompletableFuture<Post> slowGet(String id, Post result, CountDownLatch loading, CountDownLatch release) {
+        return CompletableFuture.supplyAsync(() -> postCache.get(id, key -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        }));
+    }
+
+    @Test
+    @DisplayName("get - 조회 도중 invalidate(삭제)되면 조회 결과를 캐시에 넣지 않는다")
+    void t1() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Post> load = slowGet("p1", post("p1", 1), loading, release);
+
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        postCache.invalidate("p1");
+        release.countDown();
+
+        assertThat(load.get(5, TimeUnit.SECONDS).getId()).isEqualTo("p1");
+        assertThat(postCache.getIfPresent("p1")).isNull();
+    }
+
+    @Test
+    @DisplayName("get - 조회 도중 invalidateAll 되어도 조회 결과를 캐시에 넣지 않는다")
+    void t2() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Post> load = slowGet("p1", post("p1", 1), loading, release);
+
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        postCache.invalidateAll(List.of("p1", "p2"));
+        release.countDown();
+        load.get(5, TimeUnit.SECONDS);
+
+        assertThat(postCache.getIfPresent("p1")).isNull();
+    }
+
+    @Test
+    @DisplayName("get - invalidate 가 없으면 조회 결과를 캐시에 넣고 다음 조회는 loader 를 부르지 않는다")
+    void t3() {
+        Post loaded = postCache.get("p1", key -> post(key, 1));
+
+        assertThat(postCache.get("p1", key -> {
+            throw new AssertionError("loader 가 다시 호출됨");
+        })).isSameAs(loaded);
+    }
+
+    @Test
+    @DisplayName("putLoaded - 캐시에 더 최신(seq_no 가 큰) Post 가 있으면 교체하지 않는다")
+    void t4() {
+        long startedAt = postCache.generation();
+        Post updated = post("p1", 5);
+        postCache.put(updated);
+
+        postCache.putLoaded(post("p1", 3), startedAt);
+
+        assertThat(postCache.getIfPresent("p1")).isSameAs(updated);
+    }
+}
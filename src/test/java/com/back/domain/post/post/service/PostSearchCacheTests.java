@@ -0,0 +1,175 @@
+package com.back.domain.post.post.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PostSearchCacheTests {
+    private static final int WAITERS = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostSearchCache postSearchCache = new PostSearchCache(true, 100, Duration.ofMinutes(1), meterRegistry);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Page<String>> getAsync(String keyword, Supplier<Page<String>> loader) {
+        return CompletableFuture.supplyAsync(() -> get(keyword, loader), executor);
+    }
+
+    private Page<String> get(String keyword, Supplier<Page<String>> loader) {
+        return postSearchCache.get(keyword, "all", "full", 0, 10, () -> {
+            loads.incrementAndGet();
+            return loader.get();
+        });
+    }
+
+    // loading 을 내린 뒤 release 가 내려갈 때까지 응답을 붙잡아 두는 loader
+    private static Supplier<Page<String>> blocking(CountDownLatch loading, CountDownLatch release, Supplier<Page<String>> result) {
+        return () -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("cache.coalesced").tag("cache", "post.search").counter().count();
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(coalesced()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("get - 같은 키의 동시 miss 는 loader 를 한 번만 부르고 나머지는 그 결과를 받는다")
+    void t1() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Page<String> result = new PageImpl<>(List.of("post"));
+        CompletableFuture<Page<String>> first = getAsync("keyword", blocking(loading, release, () -> result));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<CompletableFuture<Page<String>>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(getAsync("keyword", () -> {
+                throw new AssertionError("loader 가 다시 호출됨");
+            }));
+        }
+        awaitCoalesced(WAITERS);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        for (CompletableFuture<Page<String>> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get - 캐시 hit 과 공백/대소문자만 다른 검색어는 loader 를 부르지 않는다")
+    void t2() {
+        Page<String> result = new PageImpl<>(List.of("post"));
+        get("Spring  Boot", () -> result);
+
+        assertThat(get(" spring boot ", () -> {
+            throw new AssertionError("loader 가 다시 호출됨");
+        })).isSameAs(result);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    @DisplayName("invalidateAll - 비우기 전에 시작된 조회 결과는 캐시에 넣지 않는다")
+    void t3() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Page<String>> stale = getAsync("keyword", blocking(loading, release, () -> new PageImpl<>(List.of("stale"))));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        postSearchCache.invalidateAll();
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS).getContent()).containsExactly("stale");
+
+        assertThat(get("keyword", () -> new PageImpl<>(List.of("fresh"))).getContent()).containsExactly("fresh");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("get - loader 예외는 기다리던 요청에도 그대로 전달되고 캐시에 남지 않는다")
+    void t4() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("search failed");
+        CompletableFuture<Page<String>> first = getAsync("keyword", blocking(loading, release, () -> {
+            throw failure;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Page<String>> waiter = getAsync("keyword", () -> {
+            throw new AssertionError("loader 가 다시 호출됨");
+        });
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+
+        assertThat(get("keyword", () -> new PageImpl<>(List.of("retry"))).getContent()).containsExactly("retry");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalidateAll - 조회와 비우기가 계속 엇갈려도 비운 뒤 시작된 조회만 캐시에 남는다")
+    void t5() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            String keyword = "race-" + i;
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Page<String>> stale = getAsync(keyword, blocking(loading, release, () -> new PageImpl<>(List.of("stale"))));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 조회 완료(put)와 비우기를 동시에 출발시킨다.
+            CompletableFuture<Void> invalidate = CompletableFuture.runAsync(postSearchCache::invalidateAll, executor);
+            release.countDown();
+            stale.get(5, TimeUnit.SECONDS);
+            invalidate.get(5, TimeUnit.SECONDS);
+
+            assertThat(get(keyword, () -> new PageImpl<>(List.of("fresh"))).getContent()).containsExactly("fresh");
+        }
+    }
+}
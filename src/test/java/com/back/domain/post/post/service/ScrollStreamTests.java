@@ -0,0 +1,116 @@
+package com.back.domain.post.post.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.BaseTest;
+import com.back.domain.post.comment.document.Comment;
+import com.back.domain.post.comment.dto.CommentDraft;
+import com.back.domain.post.comment.service.CommentService;
+import com.back.domain.post.post.document.Post;
+
+// scroll 은 한 번에 500 건씩 가져오므로 그보다 많이 만들어서 scroll 이 이어지는 경로까지 확인한다.
+@SpringBootTest
+@Testcontainers
+public class ScrollStreamTests extends BaseTest {
+    private static final int COUNT = 520;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private CommentService commentService;
+    // scroll 시작/계속/정리 호출을 세기 위해 감싼다.
+    @MockitoSpyBean
+    private ElasticsearchTemplate elasticsearchTemplate;
+
+    @BeforeEach
+    void setUp() {
+        clearInvocations(elasticsearchTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyScrolledAndCleared() {
+        verify(elasticsearchTemplate, atLeastOnce())
+            .searchScrollContinue(anyString(), anyLong(), any(Class.class), any(IndexCoordinates.class));
+        verify(elasticsearchTemplate, times(1)).searchScrollClear(anyList());
+    }
+
+    @Test
+    @DisplayName("streamAll - 500 건이 넘는 Post 를 모두 내보내고 close 시 scroll 을 정리한다")
+    void t1() {
+        List<Post> posts = IntStream.range(0, COUNT)
+            .mapToObj(i -> new Post("Stream Post " + i, "Stream Content " + i, "Stream Author"))
+            .toList();
+        elasticsearchTemplate.save(posts);
+        elasticsearchTemplate.indexOps(Post.class).refresh();
+        long total = elasticsearchTemplate.count(NativeQuery.builder().withQuery(q -> q.matchAll(m -> m)).build(), Post.class);
+        clearInvocations(elasticsearchTemplate);
+
+        long streamed;
+        try (Stream<Post> stream = postService.streamAll()) {
+            streamed = stream.count();
+        }
+
+        assertThat(streamed).isEqualTo(total).isGreaterThanOrEqualTo(COUNT);
+        verifyScrolledAndCleared();
+    }
+
+    @Test
+    @DisplayName("streamByPostId - 500 건이 넘는 댓글을 모두 내보내고 close 시 scroll 을 정리한다")
+    void t2() {
+        String postId = "stream-post-" + UUID.randomUUID();
+        commentService.createAll(postId, IntStream.range(0, COUNT)
+            .mapToObj(i -> new CommentDraft("Stream Comment " + i, "Stream Commenter"))
+            .toList(), RefreshPolicy.IMMEDIATE);
+        clearInvocations(elasticsearchTemplate);
+
+        List<Comment> streamed;
+        try (Stream<Comment> stream = commentService.streamByPostId(postId)) {
+            streamed = stream.toList();
+        }
+
+        assertThat(streamed).hasSize(COUNT);
+        assertThat(streamed).allSatisfy(comment -> assertThat(comment.getPostId()).isEqualTo(postId));
+        assertThat(streamed.stream().map(Comment::getId).distinct()).hasSize(COUNT);
+        verifyScrolledAndCleared();
+    }
+
+    @Test
+    @DisplayName("streamByPostId - 끝까지 읽지 않고 close 해도 scroll 을 정리한다")
+    void t3() {
+        String postId = "stream-post-" + UUID.randomUUID();
+        commentService.createAll(postId, IntStream.range(0, COUNT)
+            .mapToObj(i -> new CommentDraft("Stream Comment " + i, "Stream Commenter"))
+            .toList(), RefreshPolicy.IMMEDIATE);
+        clearInvocations(elasticsearchTemplate);
+
+        try (Stream<Comment> stream = commentService.streamByPostId(postId)) {
+            assertThat(stream.limit(10).count()).isEqualTo(10);
+        }
+
+        verify(elasticsearchTemplate, times(1)).searchScrollClear(anyList());
+    }
+}
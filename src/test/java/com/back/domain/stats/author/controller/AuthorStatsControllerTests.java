@@ -0,0 +1,95 @@
+package com.back.domain.stats.author.controller;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.BaseTest;
+import com.back.domain.post.comment.dto.CommentDraft;
+import com.back.domain.post.comment.service.CommentService;
+import com.back.domain.post.post.document.Post;
+import com.back.domain.stats.author.dto.AuthorCount;
+import com.back.domain.stats.author.dto.AuthorStats;
+
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureMockMvc
+public class AuthorStatsControllerTests extends BaseTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ElasticsearchTemplate elasticsearchTemplate;
+    @Autowired
+    private CommentService commentService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 다른 테스트가 만든 문서(많게는 작성자당 수백 건)보다 확실히 많아야 순위와 건수를 그대로 비교할 수 있다.
+    private void createAuthorDocuments(String author, int posts, int comments) {
+        elasticsearchTemplate.save(IntStream.range(0, posts)
+            .mapToObj(i -> new Post("Stats Title " + i, "Stats Content " + i, author))
+            .toList());
+        elasticsearchTemplate.indexOps(Post.class).refresh();
+        commentService.createAll("stats-post-" + UUID.randomUUID(), IntStream.range(0, comments)
+            .mapToObj(i -> new CommentDraft("Stats Comment " + i, author))
+            .toList(), RefreshPolicy.IMMEDIATE);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats/authors - 작성자별 Post/Comment 수 상위 N 명")
+    void t1() throws Exception {
+        String top = "Stats Top " + UUID.randomUUID();
+        String second = "Stats Second " + UUID.randomUUID();
+        createAuthorDocuments(top, 2000, 1800);
+        createAuthorDocuments(second, 1500, 1300);
+
+        // size 별로 캐시하므로 다른 테스트가 쓰지 않는 size 로 조회한다.
+        String response = mockMvc.perform(
+            get("/api/v1/stats/authors")
+                .param("size", "3")
+        ).andExpect(status().isOk())
+            .andExpect(jsonPath("$.posts").isArray())
+            .andExpect(jsonPath("$.comments").isArray())
+            .andExpect(jsonPath("$.hits").doesNotExist())
+            .andReturn().getResponse()
+            .getContentAsString();
+
+        AuthorStats stats = objectMapper.readValue(response, AuthorStats.class);
+        assertThat(stats.posts()).hasSize(3);
+        assertThat(stats.posts().subList(0, 2)).containsExactly(
+            new AuthorCount(top, 2000),
+            new AuthorCount(second, 1500)
+        );
+        assertThat(stats.posts().get(2).count()).isLessThan(1500);
+
+        assertThat(stats.comments()).hasSize(3);
+        assertThat(stats.comments().subList(0, 2)).containsExactly(
+            new AuthorCount(top, 1800),
+            new AuthorCount(second, 1300)
+        );
+        assertThat(stats.comments().get(2).count()).isLessThan(1300);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats/authors - 실패 (size 범위 밖)")
+    void t2() throws Exception {
+        mockMvc.perform(
+            get("/api/v1/stats/authors")
+                .param("size", "0")
+        ).andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,157 @@
+package com.back.domain.stats.timeline.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.BaseTest;
+import com.back.domain.post.post.document.Post;
+import com.back.domain.stats.timeline.dto.TimelineBucket;
+
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureMockMvc
+public class TimelineControllerTests extends BaseTest {
+    @Autowired
+    private MockMvc mockMvc;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("GET /api/v1/stats/timeline - 작성자 기준 일별 Post/Comment 수 (NDJSON)")
+    void t1() throws Exception {
+        String response = mockMvc.perform(
+            post("/api/v1/posts")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsBytes(Map.of(
+                    "title", "Timeline Title",
+                    "content", "Timeline Content",
+                    "author", "Timeline Author"
+                )))
+        ).andExpect(status().isCreated())
+            .andReturn().getResponse()
+            .getContentAsString();
+        Post post = objectMapper.readValue(response, Post.class);
+
+        mockMvc.perform(
+            post("/api/v1/posts/{postId}/comments/_bulk", post.getId())
+                .param("refresh", "wait_for")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsBytes(Map.of(
+                    "comments", List.of(
+                        Map.of("content", "Timeline Comment 1", "author", "Timeline Author"),
+                        Map.of("content", "Timeline Comment 2", "author", "Timeline Author")
+                    )
+                )))
+        ).andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(
+            get("/api/v1/stats/timeline")
+                .param("interval", "day")
+                .param("timeZone", "Asia/Seoul")
+                .param("author", "Timeline Author")
+        ).andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<TimelineBucket> buckets = body.lines()
+            .map(line -> objectMapper.readValue(line, TimelineBucket.class))
+            .toList();
+        assertThat(buckets).hasSize(1);
+        assertThat(buckets.get(0).date()).endsWith("+09:00");
+        assertThat(buckets.get(0).posts()).isEqualTo(1);
+        assertThat(buckets.get(0).comments()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats/timeline - 실패 (알 수 없는 interval)")
+    void t2() throws Exception {
+        mockMvc.perform(
+            get("/api/v1/stats/timeline")
+                .param("interval", "fortnight")
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats/timeline - 실패 (하루보다 짧은 interval 에 from/to 없음)")
+    void t3() throws Exception {
+        mockMvc.perform(
+            get("/api/v1/stats/timeline")
+                .param("interval", "minute")
+        ).andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+            get("/api/v1/stats/timeline")
+                .param("interval", "hour")
+                .param("from", "2000-01-01T00:00:00Z")
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats/timeline - 실패 (bucket 수가 상한을 넘는 구간)")
+    void t4() throws Exception {
+        // 30일 * 1440분 = 43,200 bucket
+        mockMvc.perform(
+            get("/api/v1/stats/timeline")
+                .param("interval", "minute")
+                .param("from", "2000-01-01T00:00:00Z")
+                .param("to", "2000-01-31T00:00:00Z")
+        ).andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+            get("/api/v1/stats/timeline")
+                .param("interval", "day")
+                .param("from", "2000-01-02T00:00:00Z")
+                .param("to", "2000-01-01T00:00:00Z")
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats/timeline - from/to 가 있으면 하루보다 짧은 interval 도 빈 bucket 까지 채운다")
+    void t5() throws Exception {
+        MvcResult result = mockMvc.perform(
+            get("/api/v1/stats/timeline")
+                .param("interval", "hour")
+                .param("from", "2000-01-01T00:00:00Z")
+                .param("to", "2000-01-02T00:00:00Z")
+        ).andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<TimelineBucket> buckets = body.lines()
+            .map(line -> objectMapper.readValue(line, TimelineBucket.class))
+            .toList();
+        assertThat(buckets).hasSize(24);
+        assertThat(buckets).allSatisfy(bucket -> {
+            assertThat(bucket.posts()).isZero();
+            assertThat(bucket.comments()).isZero();
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.back.global.elasticsearch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+// settingPath 는 파일 하나만 받으므로 comments 인덱스 설정(comment-settings.json)은 posts 의 analysis 를 복사해 쓴다.
+// 복사본이 원본(settings.json)과 달라지면 같은 "korean" 분석기가 인덱스마다 다르게 동작하므로 여기서 막는다.
+public class IndexSettingsTests {
+    private static final List<String> SECTIONS = List.of("tokenizer", "analyzer", "filter", "char_filter");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode read(String path) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            assertThat(in).as(path).isNotNull();
+            return objectMapper.readTree(in);
+        }
+    }
+
+    @Test
+    @DisplayName("comment-settings.json 의 analysis 는 settings.json 의 같은 이름 항목과 같다")
+    void t1() throws IOException {
+        JsonNode posts = read("/elasticsearch/settings.json").path("analysis");
+        JsonNode comments = read("/elasticsearch/comment-settings.json").path("analysis");
+
+        assertThat(comments.path("analyzer").has("korean")).isTrue();
+        for (String section : SECTIONS) {
+            for (String name : comments.path(section).propertyNames()) {
+                assertThat(comments.path(section).get(name))
+                        .as("analysis.%s.%s", section, name)
+                        .isEqualTo(posts.path(section).get(name));
+            }
+        }
+    }
+}
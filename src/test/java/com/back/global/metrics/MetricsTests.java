@@ -0,0 +1,99 @@
+package com.back.global.metrics;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.BaseTest;
+
+// 같은 컨텍스트를 쓰는 다른 테스트도 지표를 쌓으므로 요청 전후 /actuator/prometheus 값의 차이로 확인한다.
+@SpringBootTest
+@Testcontainers
+@AutoConfigureMockMvc
+public class MetricsTests extends BaseTest {
+    private static final String ES_CALLS = "http_server_requests_es_calls";
+    private static final String SERVICE_TIMER = "app_method_seconds";
+    private static final String ES_TIMER = "es_client_requests_seconds";
+    private static final String BULKHEAD_AVAILABLE = "es_client_bulkhead_available";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    }
+
+    // name{...labels...} value (태그가 없으면 name value) 형식의 줄 중 labels 를 모두 포함하는 첫 줄의 값. 없으면 0
+    private static double value(String scrape, String name, List<String> labels) {
+        return scrape.lines()
+            .filter(line -> line.startsWith(name + "{") || line.startsWith(name + " "))
+            .filter(line -> labels.stream().allMatch(line::contains))
+            .mapToDouble(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+            .findFirst()
+            .orElse(0);
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - 서비스 메서드 timer 와 요청별 ES 호출 수가 노출된다")
+    void t1() throws Exception {
+        List<String> request = List.of("method=\"GET\"", "uri=\"/api/v1/posts/{id}\"");
+        List<String> findById = List.of("class=\"PostService\"", "method=\"findById\"", "exception=\"NotFoundException\"");
+        List<String> esGet = List.of("endpoint=\"es/get\"");
+        String before = scrape();
+
+        // 캐시에 없는 ID 라서 ES GET 한 번 후 404
+        mockMvc.perform(get("/api/v1/posts/{id}", "metrics-" + UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+
+        String after = scrape();
+        assertThat(value(after, ES_CALLS + "_count", request) - value(before, ES_CALLS + "_count", request))
+            .isEqualTo(1);
+        assertThat(value(after, ES_CALLS + "_sum", request) - value(before, ES_CALLS + "_sum", request))
+            .isEqualTo(1);
+        assertThat(value(after, SERVICE_TIMER + "_count", findById) - value(before, SERVICE_TIMER + "_count", findById))
+            .isEqualTo(1);
+        assertThat(value(after, ES_TIMER + "_count", esGet) - value(before, ES_TIMER + "_count", esGet))
+            .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - ES 를 부르지 않는 요청은 ES 호출 0 으로 기록된다")
+    void t2() throws Exception {
+        List<String> request = List.of("method=\"GET\"", "uri=\"/api/v1/posts/cursor\"");
+        String before = scrape();
+
+        mockMvc.perform(get("/api/v1/posts/cursor").param("size", "0"))
+            .andExpect(status().isBadRequest());
+
+        String after = scrape();
+        assertThat(value(after, ES_CALLS + "_count", request) - value(before, ES_CALLS + "_count", request))
+            .isEqualTo(1);
+        assertThat(value(after, ES_CALLS + "_sum", request) - value(before, ES_CALLS + "_sum", request))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - bulkhead 의 남은 permits 가 gauge 로 노출된다")
+    void t3() throws Exception {
+        // 요청을 한 번 보내서 transport 를 확실히 만든다.
+        mockMvc.perform(get("/api/v1/posts/{id}", "metrics-" + UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+
+        double available = value(scrape(), BULKHEAD_AVAILABLE, List.of());
+        assertThat(available).isPositive().isLessThanOrEqualTo(64);
+    }
+}